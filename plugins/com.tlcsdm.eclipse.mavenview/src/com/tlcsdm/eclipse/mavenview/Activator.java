@@ -14,6 +14,9 @@ import org.eclipse.ui.commands.ICommandService;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.BundleContext;
 
+import com.tlcsdm.eclipse.mavenview.internal.tree.PluginDescriptorCache;
+import com.tlcsdm.eclipse.mavenview.internal.tree.ProjectModelCache;
+
 public class Activator extends AbstractUIPlugin {
 	/** The plug-in ID */
 	public static final String PLUGIN_ID = "com.tlcsdm.eclipse.mavenview"; //$NON-NLS-1$
@@ -37,6 +40,22 @@ public class Activator extends AbstractUIPlugin {
 		return plugin;
 	}
 
+	/**
+	 * Logs the warning to the log of the plug-in, or to the standard error if the
+	 * plug-in is not running, e.g. in a plain unit test.
+	 */
+	public static void warn(String message, Throwable exception) {
+		final Activator activator = plugin;
+		if (activator != null) {
+			activator.getLog().warn(message, exception);
+		} else {
+			System.err.println(message);
+			if (exception != null) {
+				exception.printStackTrace();
+			}
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -47,6 +66,11 @@ public class Activator extends AbstractUIPlugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		syncCommandStateFromPreference();
+		MavenProjectIndex.connect();
+		LaunchConfigIndex.connect();
+		ProjectModelCache.connect();
+		DirtyProjectTracker.connect();
+		BuildCache.connect();
 	}
 
 	public static void syncCommandStateFromPreference() {
@@ -68,6 +92,13 @@ public class Activator extends AbstractUIPlugin {
 	 */
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		BuildCache.disconnect();
+		DirtyProjectTracker.disconnect();
+		ProjectModelCache.disconnect();
+		PluginDescriptorCache.disconnect();
+		BuildQueue.disconnect();
+		LaunchConfigIndex.disconnect();
+		MavenProjectIndex.disconnect();
 		plugin = null;
 		super.stop(context);
 	}
@@ -0,0 +1,533 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.ui.console.ConsolePlugin;
+import org.eclipse.ui.console.IConsole;
+import org.eclipse.ui.console.IConsoleManager;
+import org.eclipse.ui.console.MessageConsole;
+import org.eclipse.ui.console.MessageConsoleStream;
+
+import com.tlcsdm.eclipse.mavenview.BuildQueue.Build;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.BuildListener;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.State;
+import com.tlcsdm.eclipse.mavenview.ReactorRunPlanner.Run;
+import com.tlcsdm.eclipse.mavenview.internal.common.SecureXmlParser;
+import com.tlcsdm.eclipse.mavenview.internal.tree.Dependency;
+import com.tlcsdm.eclipse.mavenview.internal.tree.ProjectModelCache;
+
+/**
+ * Skips the launch of a run if the same phases already succeeded for the same
+ * inputs and the outputs of that build are still there, see
+ * {@link MavenViewPreferences#isBuildCache()}. The inputs are summed up by a
+ * fingerprint over the pom.xml of the project, the pom.xml files of its parents
+ * in the local file system, all files in <code>src</code> and the fingerprints
+ * of the last successful builds of the workspace projects it depends on. Only
+ * runs of a single project that is not an aggregator are cached, and only if
+ * they neither clean the project nor run plugin goals. A build is only reused
+ * for a launch configuration with the same attributes, e.g. the same profiles
+ * and the same setting for skipping the tests.
+ * <p>
+ * {@link MavenRunner#run(Run, BuildQueue.Priority)} checks every run against
+ * the cache, and the cache learns from the {@link BuildQueue} whether a
+ * launched run succeeded. Every launched run makes the fingerprints of its
+ * modules unknown until it succeeds, so that the projects depending on them are
+ * not skipped after they were built by other means, e.g. by a reactor build.
+ * </p>
+ * <p>
+ * The fingerprints of the successful builds are stored in the state location
+ * on shutdown.
+ * </p>
+ */
+public final class BuildCache {
+
+	static final String FILE_NAME = "buildCache.properties";
+
+	private static final String BUILD_DIRECTORY = "target";
+	private static final String SOURCE_DIRECTORY = "src";
+	private static final String PARENT = "/project/parent";
+	private static final String PARENT_RELATIVE_PATH = "/project/parent/relativePath";
+	private static final String DEFAULT_PARENT_PATH = "../" + MavenRunner.POM_FILE_NAME;
+	private static final int MAX_PARENTS = 16;
+	// separates the fingerprint and the outputs in the stored values
+	private static final String SEPARATOR = "\n";
+	// the prefixes of the stored keys, project names may contain any character
+	private static final String BUILD_PREFIX = "build.";
+	private static final String PROJECT_PREFIX = "project.";
+
+	/**
+	 * The project, key and fingerprint of a launched run.
+	 */
+	private record LaunchedBuild(IProject project, String key, String fingerprint) {
+	}
+
+	// the fingerprint and the outputs of the last successful build, by project and launch configuration
+	private static final Map<String, String> builds = new HashMap<>();
+	// the fingerprint of the last successful build, by project
+	private static final Map<String, String> projectFingerprints = new HashMap<>();
+	// the runs that were checked but not submitted yet
+	private static final Map<Run, LaunchedBuild> checkedRuns = new ConcurrentHashMap<>();
+	// guarded by the class
+	private static final Map<Build, LaunchedBuild> launchedBuilds = new HashMap<>();
+
+	private static final BuildListener buildListener = new BuildListener() {
+
+		@Override
+		public void buildStarted(Build build) {
+			// remembered when submitted
+		}
+
+		@Override
+		public void buildDone(Build build) {
+			final LaunchedBuild launched;
+			synchronized (BuildCache.class) {
+				launched = launchedBuilds.remove(build);
+			}
+			if (launched != null) {
+				BuildCache.buildDone(launched, build.getState());
+			}
+		}
+	};
+
+	private static MessageConsole console;
+
+	private BuildCache() {
+		// hidden
+	}
+
+	/**
+	 * Restores the fingerprints of the successful builds.
+	 */
+	public static void connect() {
+		BuildQueue.getDefault().addBuildListener(buildListener);
+		final Path file = getFile();
+		if (!Files.exists(file)) {
+			return;
+		}
+		try (InputStream in = Files.newInputStream(file)) {
+			read(in);
+		} catch (final IOException | IllegalArgumentException e) {
+			// everything is built again
+			Activator.getDefault().getLog().warn("Discarding the build cache", e);
+		}
+	}
+
+	/**
+	 * Stores the fingerprints of the successful builds and forgets them.
+	 */
+	public static void disconnect() {
+		BuildQueue.getDefault().removeBuildListener(buildListener);
+		try (OutputStream out = Files.newOutputStream(getFile())) {
+			write(out);
+		} catch (final IOException e) {
+			Activator.getDefault().getLog().warn("Failed to write the build cache", e);
+		}
+		clear();
+	}
+
+	/**
+	 * Returns true if the run need not be launched because it already succeeded
+	 * for the current inputs. Otherwise the fingerprint of the inputs is kept
+	 * until the build of the run is {@link #launched(Run, Build) launched}. Reads
+	 * the sources of the project, so it is not called on the UI thread.
+	 *
+	 * @param launchConfiguration the configuration the run is launched with
+	 */
+	public static boolean isUpToDate(Run run, ILaunchConfiguration launchConfiguration) {
+		if (MavenViewPreferences.isBuildCache() && isCacheable(run)) {
+			final String key = getKey(run, launchConfiguration);
+			final String fingerprint = key != null ? computeFingerprint(run.project()) : null;
+			if (fingerprint != null) {
+				if (isBuilt(run.project(), key, fingerprint)) {
+					print(MessageFormat.format(Messages.getString("BuildCache.UpToDate"), run.project().getName(),
+							run.config().toGoalString()));
+					return true;
+				}
+				checkedRuns.put(run, new LaunchedBuild(run.project(), key, fingerprint));
+			}
+		}
+		synchronized (BuildCache.class) {
+			for (final IProject module : run.modules()) {
+				projectFingerprints.remove(module.getName());
+			}
+		}
+		return false;
+	}
+
+	private static boolean isBuilt(IProject project, String key, String fingerprint) {
+		final String[] build;
+		synchronized (BuildCache.class) {
+			build = builds.getOrDefault(key, "").split(SEPARATOR);
+		}
+		return build[0].equals(fingerprint) && hasOutputs(project.getLocation().toPath().resolve(BUILD_DIRECTORY),
+				List.of(build).subList(1, build.length));
+	}
+
+	/**
+	 * Remembers the build of a run that was not {@link #isUpToDate(Run,
+	 * ILaunchConfiguration) up to date}, so that its fingerprint is stored if it
+	 * succeeds.
+	 */
+	public static void launched(Run run, Build build) {
+		final LaunchedBuild launched = checkedRuns.remove(run);
+		if (launched == null) {
+			return;
+		}
+		synchronized (BuildCache.class) {
+			if (!build.getState().isDone()) {
+				launchedBuilds.put(build, launched);
+				return;
+			}
+		}
+		// the queue reported it before it was known
+		buildDone(launched, build.getState());
+	}
+
+	private static void buildDone(LaunchedBuild launched, State state) {
+		if (state != State.FINISHED) {
+			return;
+		}
+		final IProject project = launched.project();
+		final List<String> outputs;
+		try {
+			outputs = listOutputs(project.getLocation().toPath().resolve(BUILD_DIRECTORY));
+		} catch (final IOException e) {
+			Activator.getDefault().getLog().warn("Failed to list the outputs of " + project.getName(), e);
+			return;
+		}
+		record(project.getName(), launched.key(), launched.fingerprint(), outputs);
+	}
+
+	static synchronized void record(String projectName, String key, String fingerprint, List<String> outputs) {
+		final List<String> values = new ArrayList<>(outputs.size() + 1);
+		values.add(fingerprint);
+		values.addAll(outputs);
+		builds.put(key, String.join(SEPARATOR, values));
+		projectFingerprints.put(projectName, fingerprint);
+	}
+
+	static synchronized String getProjectFingerprint(String projectName) {
+		return projectFingerprints.get(projectName);
+	}
+
+	static boolean isCacheable(Run run) {
+		final MavenRunConfig config = run.config();
+		final IProject project = run.project();
+		if (config.getProjects().length > 0 || config.getGoals().length > 0
+				|| Arrays.asList(config.getPhases()).contains(Phase.CLEAN) || project.getLocation() == null) {
+			// the outputs of a clean build are never up to date, plugin goals may do anything
+			return false;
+		}
+		// an aggregator builds its modules, which are not part of the fingerprint
+		try (InputStream in = Files
+				.newInputStream(project.getLocation().toPath().resolve(MavenRunner.POM_FILE_NAME))) {
+			return ReactorRunPlanner.readModules(in).isEmpty();
+		} catch (final IOException | XMLStreamException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the fingerprint of the inputs of the project, or null if a
+	 * workspace project it depends on was not built by the view yet or the
+	 * fingerprint cannot be computed.
+	 */
+	private static String computeFingerprint(IProject project) {
+		try {
+			return computeProjectFingerprint(project);
+		} catch (final IOException | UncheckedIOException e) {
+			Activator.getDefault().getLog().warn("Failed to compute the build fingerprint of " + project.getName(), e);
+			return null;
+		}
+	}
+
+	private static String computeProjectFingerprint(IProject project) throws IOException {
+		final Set<String> dependencyKeys = new HashSet<>();
+		for (final Dependency dependency : ProjectModelCache.getSnapshot(project).getDependencies()) {
+			dependencyKeys.add(dependency.groupId() + ':' + dependency.artifactId());
+		}
+		final List<String> upstreamFingerprints = new ArrayList<>();
+		for (final IProject upstream : MavenProjectIndex.getMavenProjects()) {
+			final IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(upstream);
+			if (upstream.equals(project) || facade == null) {
+				continue;
+			}
+			final ArtifactKey artifactKey = facade.getArtifactKey();
+			if (dependencyKeys.contains(artifactKey.groupId() + ':' + artifactKey.artifactId())) {
+				final String upstreamFingerprint = getProjectFingerprint(upstream.getName());
+				if (upstreamFingerprint == null) {
+					return null;
+				}
+				upstreamFingerprints.add(upstream.getName() + '=' + upstreamFingerprint);
+			}
+		}
+		final Path directory = project.getLocation().toPath();
+		return computeFingerprint(directory, findParentPoms(directory.resolve(MavenRunner.POM_FILE_NAME)),
+				upstreamFingerprints);
+	}
+
+	/**
+	 * Returns the fingerprint of the pom.xml and the sources in the directory, the
+	 * parent pom.xml files and the fingerprints of the upstream projects. The
+	 * files of the sources are hashed in parallel.
+	 */
+	static String computeFingerprint(Path directory, List<Path> parentPoms, Collection<String> upstreamFingerprints)
+			throws IOException {
+		final MessageDigest digest = createDigest();
+		update(digest, "pom=" + hash(directory.resolve(MavenRunner.POM_FILE_NAME)));
+		for (final Path parentPom : parentPoms) {
+			update(digest, "parent=" + hash(parentPom));
+		}
+		final Path sourceDirectory = directory.resolve(SOURCE_DIRECTORY);
+		if (Files.isDirectory(sourceDirectory)) {
+			final List<String> sources;
+			try (Stream<Path> files = Files.walk(sourceDirectory)) {
+				sources = files.parallel().filter(Files::isRegularFile)
+						.map(file -> sourceDirectory.relativize(file).toString().replace('\\', '/') + '='
+								+ hashUnchecked(file))
+						.sorted().collect(Collectors.toList());
+			}
+			for (final String source : sources) {
+				update(digest, source);
+			}
+		}
+		upstreamFingerprints.stream().sorted().forEach(upstream -> update(digest, "upstream=" + upstream));
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Returns the pom.xml files of the parents of the pom.xml that are in the
+	 * local file system, nearest first.
+	 */
+	static List<Path> findParentPoms(Path pom) {
+		final List<Path> result = new ArrayList<>();
+		Path current = pom;
+		while (result.size() < MAX_PARENTS) {
+			final String relativePath;
+			try (InputStream in = Files.newInputStream(current)) {
+				relativePath = readParentRelativePath(in);
+			} catch (final IOException | XMLStreamException e) {
+				break;
+			}
+			if (relativePath == null || relativePath.isEmpty()) {
+				// no parent or a parent from the repository
+				break;
+			}
+			Path parent = current.getParent().resolve(relativePath).normalize();
+			if (Files.isDirectory(parent)) {
+				parent = parent.resolve(MavenRunner.POM_FILE_NAME);
+			}
+			if (!Files.isRegularFile(parent) || result.contains(parent) || parent.equals(pom)) {
+				break;
+			}
+			result.add(parent);
+			current = parent;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the relative path of the parent of the pom.xml, the default
+	 * <code>../pom.xml</code> if it has none, or null if the pom.xml has no
+	 * parent. The stream is not closed.
+	 */
+	static String readParentRelativePath(InputStream pomContents) throws XMLStreamException {
+		final XMLStreamReader reader = SecureXmlParser.getSecureXmlInputFactory().createXMLStreamReader(pomContents);
+		try {
+			String result = null;
+			final StringBuilder path = new StringBuilder();
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					path.append('/').append(reader.getLocalName());
+					if (PARENT.contentEquals(path)) {
+						result = DEFAULT_PARENT_PATH;
+					} else if (PARENT_RELATIVE_PATH.contentEquals(path)) {
+						result = reader.getElementText().trim();
+						path.setLength(path.lastIndexOf("/"));
+					}
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					path.setLength(path.lastIndexOf("/"));
+					break;
+				default:
+					break;
+				}
+			}
+			return result;
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Returns the names of the files and directories in the build directory.
+	 */
+	static List<String> listOutputs(Path buildDirectory) throws IOException {
+		final List<String> result = new ArrayList<>();
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(buildDirectory)) {
+			for (final Path entry : entries) {
+				result.add(entry.getFileName().toString());
+			}
+		} catch (final NoSuchFileException e) {
+			// e.g. the phases did not write any output
+		}
+		result.sort(null);
+		return result;
+	}
+
+	/**
+	 * Returns true if all outputs are still in the build directory.
+	 */
+	static boolean hasOutputs(Path buildDirectory, Collection<String> outputs) {
+		for (final String output : outputs) {
+			if (!Files.exists(buildDirectory.resolve(output))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the key of the builds of the run, which identifies the project and
+	 * the attributes of the launch configuration, or null if they are unknown.
+	 */
+	private static String getKey(Run run, ILaunchConfiguration launchConfiguration) {
+		final Map<String, Object> attributes;
+		try {
+			attributes = new TreeMap<>(launchConfiguration.getAttributes());
+		} catch (final CoreException e) {
+			Activator.getDefault().getLog().warn("Failed to read the attributes of " + launchConfiguration, e);
+			return null;
+		}
+		// the run config is given by the goals and profiles as well
+		attributes.remove(MavenRunner.ATTR_CONFIG);
+		return getKey(run.project().getName(), attributes);
+	}
+
+	static String getKey(String projectName, Map<String, Object> attributes) {
+		final MessageDigest digest = createDigest();
+		new TreeMap<>(attributes).forEach((name, value) -> update(digest, name + '=' + value));
+		return projectName + '|' + HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static String hash(Path file) throws IOException {
+		final MessageDigest digest = createDigest();
+		try (InputStream in = Files.newInputStream(file)) {
+			final byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static String hashUnchecked(Path file) {
+		try {
+			return hash(file);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void update(MessageDigest digest, String entry) {
+		digest.update(entry.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (final NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Path getFile() {
+		return Activator.getDefault().getStateLocation().append(FILE_NAME).toFile().toPath();
+	}
+
+	static synchronized void read(InputStream in) throws IOException {
+		final Properties properties = new Properties();
+		properties.load(in);
+		for (final String key : properties.stringPropertyNames()) {
+			if (key.startsWith(BUILD_PREFIX)) {
+				builds.put(key.substring(BUILD_PREFIX.length()), properties.getProperty(key));
+			} else if (key.startsWith(PROJECT_PREFIX)) {
+				projectFingerprints.put(key.substring(PROJECT_PREFIX.length()), properties.getProperty(key));
+			}
+			// other keys are left by an older version, their builds are run again
+		}
+	}
+
+	static synchronized void write(OutputStream out) throws IOException {
+		final Properties properties = new Properties();
+		builds.forEach((key, build) -> properties.put(BUILD_PREFIX + key, build));
+		projectFingerprints.forEach((name, fingerprint) -> properties.put(PROJECT_PREFIX + name, fingerprint));
+		properties.store(out, null);
+	}
+
+	static synchronized void clear() {
+		builds.clear();
+		projectFingerprints.clear();
+		checkedRuns.clear();
+		launchedBuilds.clear();
+	}
+
+	private static void print(String message) {
+		final MessageConsoleStream stream = getConsole().newMessageStream();
+		stream.println(message);
+		try {
+			stream.close();
+		} catch (final IOException e) {
+			// nothing was written then
+		}
+	}
+
+	private static synchronized MessageConsole getConsole() {
+		if (console == null) {
+			final IConsoleManager consoleManager = ConsolePlugin.getDefault().getConsoleManager();
+			console = new MessageConsole(Messages.getString("BuildCache.Console"), null);
+			consoleManager.addConsoles(new IConsole[] { console });
+		}
+		ConsolePlugin.getDefault().getConsoleManager().showConsoleView(console);
+		return console;
+	}
+}
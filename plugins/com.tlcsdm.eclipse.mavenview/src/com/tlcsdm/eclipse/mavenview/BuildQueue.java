@@ -0,0 +1,498 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntSupplier;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.ILaunchesListener2;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.ui.DebugUITools;
+import org.eclipse.jface.dialogs.MessageDialogWithToggle;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.ui.ISharedImages;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.ide.IDE;
+
+/**
+ * Queue in front of the Maven launches, so that selecting many projects does
+ * not start a Maven process for each of them at once. At most
+ * {@link MavenViewPreferences#getMaxConcurrentBuilds()} launches run at the
+ * same time, the others wait. Interactive builds, i.e. a single run the user
+ * asked for, are started before bulk builds; builds of the same priority are
+ * started in the order they were submitted.
+ * <p>
+ * The last {@link #HISTORY_SIZE} finished builds are kept to be shown. All
+ * methods may be called from any thread, listeners are notified from the
+ * thread that changed the queue.
+ * </p>
+ * <p>
+ * Every launch of the view goes through the queue, so that a
+ * {@link BuildListener} learns about every build of the projects.
+ * </p>
+ */
+public final class BuildQueue {
+
+	public enum Priority {
+		INTERACTIVE, BULK
+	}
+
+	public enum State implements Displayable {
+		QUEUED, RUNNING, FINISHED, FAILED, CANCELLED;
+
+		public boolean isDone() {
+			return this != QUEUED && this != RUNNING;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return Messages.getString("BuildQueue.State." + name());
+		}
+
+		@Override
+		public Image getImage() {
+			switch (this) {
+			case QUEUED:
+				return Activator.getImage(MavenViewImages.OBJ_BUILD_QUEUED);
+			case RUNNING:
+				return Activator.getImage(MavenViewImages.OBJ_BUILD_RUNNING);
+			case FINISHED:
+				return Activator.getImage(MavenViewImages.OBJ_BUILD_FINISHED);
+			case FAILED:
+				return PlatformUI.getWorkbench().getSharedImages().getImage(ISharedImages.IMG_OBJS_ERROR_TSK);
+			default:
+				return PlatformUI.getWorkbench().getSharedImages().getImage(ISharedImages.IMG_ELCL_STOP);
+			}
+		}
+	}
+
+	/**
+	 * A submitted launch.
+	 */
+	public static final class Build {
+
+		private final ILaunchConfiguration configuration;
+		private final String name;
+		private final Priority priority;
+		private final List<IProject> projects;
+		private final long sequence;
+
+		// guarded by the queue
+		private State state = State.QUEUED;
+		private ILaunch launch;
+		private boolean cancelRequested;
+
+		Build(ILaunchConfiguration configuration, String name, Priority priority, List<IProject> projects,
+				long sequence) {
+			this.configuration = configuration;
+			this.name = Objects.requireNonNull(name);
+			this.priority = Objects.requireNonNull(priority);
+			this.projects = List.copyOf(projects);
+			this.sequence = sequence;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public Priority getPriority() {
+			return this.priority;
+		}
+
+		public State getState() {
+			return this.state;
+		}
+
+		/**
+		 * Returns the projects the build runs for, e.g. the modules of a reactor
+		 * build.
+		 */
+		public List<IProject> getProjects() {
+			return this.projects;
+		}
+
+		ILaunchConfiguration getConfiguration() {
+			return this.configuration;
+		}
+
+		@Override
+		public String toString() {
+			return this.name + " [" + this.state + "]";
+		}
+	}
+
+	/**
+	 * Notified when a build is launched and when it is done, from the thread that
+	 * changed the build.
+	 */
+	public interface BuildListener {
+
+		void buildStarted(Build build);
+
+		/**
+		 * Called once for every build, also for a build that was cancelled before it
+		 * started.
+		 */
+		void buildDone(Build build);
+	}
+
+	/**
+	 * Starts and terminates the launches of builds.
+	 */
+	interface Launcher {
+
+		/**
+		 * Starts the build, which has to be reported as started or finished to the
+		 * queue later.
+		 */
+		void launch(BuildQueue queue, Build build);
+
+		void terminate(ILaunch launch);
+	}
+
+	static final int HISTORY_SIZE = 50;
+
+	private static final String MODE = ILaunchManager.RUN_MODE;
+
+	// Constant from org.eclipse.debug.internal.ui.IInternalDebugUIConstants
+	private static final String PREF_SAVE_DIRTY_EDITORS_BEFORE_LAUNCH = "org.eclipse.debug.ui.save_dirty_editors_before_launch"; //$NON-NLS-1$
+
+	private static BuildQueue defaultQueue;
+
+	private final IntSupplier maxConcurrentBuilds;
+	private final Launcher launcher;
+
+	private final PriorityQueue<Build> queued = new PriorityQueue<>(
+			Comparator.comparing(Build::getPriority).thenComparingLong(build -> build.sequence));
+	private final List<Build> running = new ArrayList<>();
+	// newest first
+	private final Deque<Build> finished = new ArrayDeque<>();
+	private long nextSequence;
+
+	private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+	private final List<BuildListener> buildListeners = new CopyOnWriteArrayList<>();
+
+	private final ILaunchesListener2 launchesListener = new ILaunchesListener2() {
+
+		@Override
+		public void launchesTerminated(ILaunch[] launches) {
+			for (final ILaunch launch : launches) {
+				terminated(launch);
+			}
+		}
+
+		@Override
+		public void launchesRemoved(ILaunch[] launches) {
+			// e.g. removed from the console before the process ended
+			launchesTerminated(launches);
+		}
+
+		@Override
+		public void launchesAdded(ILaunch[] launches) {
+			// the queue starts the launches itself
+		}
+
+		@Override
+		public void launchesChanged(ILaunch[] launches) {
+			// not needed
+		}
+	};
+
+	BuildQueue(IntSupplier maxConcurrentBuilds, Launcher launcher) {
+		this.maxConcurrentBuilds = maxConcurrentBuilds;
+		this.launcher = launcher;
+	}
+
+	/**
+	 * Returns the queue of the workbench, which is created on first use.
+	 */
+	public static synchronized BuildQueue getDefault() {
+		if (defaultQueue == null) {
+			defaultQueue = new BuildQueue(MavenViewPreferences::getMaxConcurrentBuilds, new JobLauncher());
+			DebugPlugin.getDefault().getLaunchManager().addLaunchListener(defaultQueue.launchesListener);
+		}
+		return defaultQueue;
+	}
+
+	/**
+	 * Drops the queued builds and stops listening to launches, running builds
+	 * keep running.
+	 */
+	public static synchronized void disconnect() {
+		if (defaultQueue == null) {
+			return;
+		}
+		final DebugPlugin debugPlugin = DebugPlugin.getDefault();
+		if (debugPlugin != null) {
+			debugPlugin.getLaunchManager().removeLaunchListener(defaultQueue.launchesListener);
+		}
+		synchronized (defaultQueue) {
+			defaultQueue.queued.clear();
+		}
+		defaultQueue = null;
+	}
+
+	/**
+	 * Queues the launch of the configuration and starts it if fewer than the
+	 * maximum number of builds are running.
+	 *
+	 * @param projects the projects the configuration runs for
+	 */
+	public Build submit(ILaunchConfiguration configuration, String name, Priority priority,
+			List<IProject> projects) {
+		final Build build;
+		synchronized (this) {
+			build = new Build(configuration, name, priority, projects, this.nextSequence++);
+			this.queued.add(build);
+		}
+		startQueuedBuilds();
+		return build;
+	}
+
+	/**
+	 * Removes a queued build or terminates a running one.
+	 */
+	public void cancel(Build build) {
+		ILaunch launchToTerminate = null;
+		boolean cancelled = false;
+		synchronized (this) {
+			if (build.state == State.QUEUED) {
+				this.queued.remove(build);
+				done(build, State.CANCELLED);
+				cancelled = true;
+			} else if (build.state == State.RUNNING) {
+				// a build that is still being launched is terminated when its launch is known
+				build.cancelRequested = true;
+				launchToTerminate = build.launch;
+			}
+		}
+		if (launchToTerminate != null) {
+			this.launcher.terminate(launchToTerminate);
+		}
+		if (cancelled) {
+			fireDone(build);
+		}
+		fireChanged();
+	}
+
+	/**
+	 * Forgets the finished, failed and cancelled builds.
+	 */
+	public void removeFinished() {
+		synchronized (this) {
+			this.finished.clear();
+		}
+		fireChanged();
+	}
+
+	/**
+	 * Returns the running builds, then the queued builds in the order they will be
+	 * started, then the finished builds, newest first.
+	 */
+	public synchronized List<Build> getBuilds() {
+		final List<Build> result = new ArrayList<>(this.running.size() + this.queued.size() + this.finished.size());
+		result.addAll(this.running);
+		final List<Build> queuedBuilds = new ArrayList<>(this.queued);
+		queuedBuilds.sort(this.queued.comparator());
+		result.addAll(queuedBuilds);
+		result.addAll(this.finished);
+		return result;
+	}
+
+	public void addListener(Runnable listener) {
+		this.listeners.add(listener);
+	}
+
+	public void removeListener(Runnable listener) {
+		this.listeners.remove(listener);
+	}
+
+	public void addBuildListener(BuildListener listener) {
+		this.buildListeners.add(listener);
+	}
+
+	public void removeBuildListener(BuildListener listener) {
+		this.buildListeners.remove(listener);
+	}
+
+	/**
+	 * Called by the launcher when the launch of the build was created.
+	 */
+	void started(Build build, ILaunch launch) {
+		final boolean terminate;
+		synchronized (this) {
+			build.launch = launch;
+			terminate = build.cancelRequested;
+		}
+		if (launch.isTerminated()) {
+			// e.g. the process could not be started
+			finished(build, getState(launch));
+		} else if (terminate) {
+			this.launcher.terminate(launch);
+		}
+	}
+
+	/**
+	 * Called when the build terminated or could not be launched.
+	 */
+	void finished(Build build, State state) {
+		synchronized (this) {
+			if (build.state != State.RUNNING) {
+				return;
+			}
+			this.running.remove(build);
+			done(build, build.cancelRequested ? State.CANCELLED : state);
+		}
+		fireDone(build);
+		startQueuedBuilds();
+	}
+
+	private void terminated(ILaunch launch) {
+		Build build = null;
+		synchronized (this) {
+			for (final Build runningBuild : this.running) {
+				if (runningBuild.launch == launch) {
+					build = runningBuild;
+					break;
+				}
+			}
+		}
+		if (build != null) {
+			finished(build, getState(launch));
+		}
+	}
+
+	/**
+	 * Returns the state of a build whose launch terminated, which failed if a
+	 * process exited with an error, e.g. because Maven reported a build failure.
+	 */
+	private static State getState(ILaunch launch) {
+		for (final IProcess process : launch.getProcesses()) {
+			try {
+				if (process.getExitValue() != 0) {
+					return State.FAILED;
+				}
+			} catch (final DebugException e) {
+				// not terminated, e.g. the launch was removed while still running
+			}
+		}
+		return State.FINISHED;
+	}
+
+	private void done(Build build, State state) {
+		build.state = state;
+		this.finished.addFirst(build);
+		while (this.finished.size() > HISTORY_SIZE) {
+			this.finished.removeLast();
+		}
+	}
+
+	private void startQueuedBuilds() {
+		final List<Build> toStart = new ArrayList<>();
+		synchronized (this) {
+			final int max = Math.max(1, this.maxConcurrentBuilds.getAsInt());
+			while (this.running.size() < max && !this.queued.isEmpty()) {
+				final Build build = this.queued.poll();
+				build.state = State.RUNNING;
+				this.running.add(build);
+				toStart.add(build);
+			}
+		}
+		fireChanged();
+		for (final Build build : toStart) {
+			for (final BuildListener listener : this.buildListeners) {
+				listener.buildStarted(build);
+			}
+			this.launcher.launch(this, build);
+		}
+	}
+
+	private void fireChanged() {
+		for (final Runnable listener : this.listeners) {
+			listener.run();
+		}
+	}
+
+	private void fireDone(Build build) {
+		for (final BuildListener listener : this.buildListeners) {
+			listener.buildDone(build);
+		}
+	}
+
+	/**
+	 * Launches the configuration in a job, so that the caller is not blocked
+	 * while the process is started. Like a launch from the Debug UI, the dirty
+	 * editors are saved and the workspace is built before, as configured in the
+	 * launching preferences. The editors are saved when the build is started, not
+	 * when it is queued, so that a queued build sees the changes made meanwhile.
+	 */
+	private static final class JobLauncher implements Launcher {
+
+		@Override
+		public void launch(BuildQueue queue, Build build) {
+			final Job job = Job.create(build.getName(), monitor -> {
+				return launch(queue, build, monitor);
+			});
+			job.schedule();
+		}
+
+		private static IStatus launch(BuildQueue queue, Build build, IProgressMonitor monitor) {
+			final boolean[] saved = { true };
+			PlatformUI.getWorkbench().getDisplay().syncExec(() -> saved[0] = saveEditors());
+			if (!saved[0]) {
+				// the user cancelled saving
+				queue.finished(build, State.CANCELLED);
+				return Status.CANCEL_STATUS;
+			}
+			try {
+				queue.started(build, DebugUITools.buildAndLaunch(build.getConfiguration(), MODE, monitor));
+				return Status.OK_STATUS;
+			} catch (final CoreException e) {
+				queue.finished(build, State.FAILED);
+				return new Status(IStatus.ERROR, Activator.PLUGIN_ID, e.getLocalizedMessage(), e);
+			}
+		}
+
+		/**
+		 * Saves the dirty editors as the launching preferences say, i.e. always,
+		 * never or after asking the user.
+		 *
+		 * @return false if the user cancelled saving
+		 */
+		private static boolean saveEditors() {
+			final String save = DebugUITools.getPreferenceStore().getString(PREF_SAVE_DIRTY_EDITORS_BEFORE_LAUNCH);
+			if (MessageDialogWithToggle.NEVER.equals(save)) {
+				return true;
+			}
+			return IDE.saveAllEditors(new IResource[] { ResourcesPlugin.getWorkspace().getRoot() },
+					MessageDialogWithToggle.PROMPT.equals(save));
+		}
+
+		@Override
+		public void terminate(ILaunch launch) {
+			try {
+				launch.terminate();
+			} catch (final DebugException e) {
+				Activator.getDefault().getLog().warn("Failed to terminate " + launch, e);
+			}
+		}
+	}
+}
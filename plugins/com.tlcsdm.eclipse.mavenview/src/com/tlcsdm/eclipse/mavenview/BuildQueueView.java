@@ -0,0 +1,100 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jface.action.MenuManager;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.part.ViewPart;
+
+/**
+ * Shows the queued, running and finished builds of the {@link BuildQueue}.
+ */
+public class BuildQueueView extends ViewPart {
+
+	/**
+	 * The ID of the view as specified by the extension.
+	 */
+	public static final String ID = "com.tlcsdm.eclipse.mavenview.BuildQueueView";
+
+	TableViewer viewer;
+	private final BuildQueue queue = BuildQueue.getDefault();
+	// the queue changes often while builds start, so refreshes are coalesced
+	private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+	private final Runnable queueListener = this::scheduleRefresh;
+
+	@Override
+	public void createPartControl(Composite parent) {
+		this.viewer = new TableViewer(parent, SWT.MULTI | SWT.FULL_SELECTION | SWT.H_SCROLL | SWT.V_SCROLL);
+		final Table table = this.viewer.getTable();
+		table.setHeaderVisible(true);
+		table.setLinesVisible(true);
+
+		final TableViewerColumn nameColumn = new TableViewerColumn(this.viewer, SWT.NONE);
+		nameColumn.getColumn().setText(Messages.getString("BuildQueue.Build"));
+		nameColumn.getColumn().setWidth(400);
+		nameColumn.setLabelProvider(new ColumnLabelProvider() {
+
+			@Override
+			public String getText(Object element) {
+				return ((BuildQueue.Build) element).getName();
+			}
+		});
+
+		final TableViewerColumn stateColumn = new TableViewerColumn(this.viewer, SWT.NONE);
+		stateColumn.getColumn().setText(Messages.getString("BuildQueue.State"));
+		stateColumn.getColumn().setWidth(120);
+		stateColumn.setLabelProvider(new ColumnLabelProvider() {
+
+			@Override
+			public String getText(Object element) {
+				return ((BuildQueue.Build) element).getState().getDisplayName();
+			}
+
+			@Override
+			public Image getImage(Object element) {
+				return ((BuildQueue.Build) element).getState().getImage();
+			}
+		});
+
+		this.viewer.setContentProvider(ArrayContentProvider.getInstance());
+		this.viewer.setInput(this.queue.getBuilds());
+		this.queue.addListener(this.queueListener);
+
+		getSite().setSelectionProvider(this.viewer);
+		final MenuManager menuManager = new MenuManager();
+		table.setMenu(menuManager.createContextMenu(table));
+		getSite().registerContextMenu(menuManager, this.viewer);
+	}
+
+	private void scheduleRefresh() {
+		final Control control = this.viewer.getControl();
+		if (control.isDisposed() || !this.refreshScheduled.compareAndSet(false, true)) {
+			return;
+		}
+		control.getDisplay().asyncExec(() -> {
+			this.refreshScheduled.set(false);
+			if (!control.isDisposed()) {
+				this.viewer.setInput(this.queue.getBuilds());
+			}
+		});
+	}
+
+	@Override
+	public void setFocus() {
+		this.viewer.getControl().setFocus();
+	}
+
+	@Override
+	public void dispose() {
+		this.queue.removeListener(this.queueListener);
+		super.dispose();
+	}
+}
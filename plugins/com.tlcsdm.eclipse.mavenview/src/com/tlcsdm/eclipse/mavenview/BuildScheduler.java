@@ -0,0 +1,198 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+
+import com.tlcsdm.eclipse.mavenview.BuildQueue.Build;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.State;
+import com.tlcsdm.eclipse.mavenview.ReactorRunPlanner.Run;
+import com.tlcsdm.eclipse.mavenview.internal.tree.Dependency;
+import com.tlcsdm.eclipse.mavenview.internal.tree.ProjectModelCache;
+
+/**
+ * Launches the runs of several projects in the order of the dependencies
+ * between the projects, so that a project is built after the projects it
+ * depends on. Runs that do not depend on each other are launched at the same
+ * time, up to the number of processors (and the limit of the
+ * {@link BuildQueue}). When a run fails or is cancelled, the runs that were not
+ * started yet are dropped, like Maven does with <code>--fail-fast</code>. Runs
+ * that are up to date according to the {@link BuildCache} are not launched.
+ * <p>
+ * The scheduler reacts to changes of the queue in a job of its own, so it never
+ * submits or cancels builds while the queue notifies its listeners, and a slow
+ * submitter does not block the thread that changed the queue.
+ * </p>
+ */
+public final class BuildScheduler {
+
+	/**
+	 * Submits a run to the build queue.
+	 */
+	interface Submitter {
+
+		/**
+		 * Returns the queued build, or null if there is nothing to launch.
+		 */
+		Build submit(Run run) throws MavenRunnerException;
+	}
+
+	private final BuildQueue queue;
+	private final DependencyGraph<Run> graph;
+	private final Submitter submitter;
+	private final int parallelism;
+	private final Consumer<MavenRunnerException> errorHandler;
+
+	// the runs that were not submitted yet, in topological order
+	private final List<Run> pending;
+	private final Map<Run, Build> submitted = new LinkedHashMap<>();
+	private final Set<Run> succeeded = new HashSet<>();
+	private boolean failed;
+
+	// runs again if it is scheduled while running
+	private final Job updateJob = Job.createSystem(Messages.getString("BuildScheduler.Job"), monitor -> {
+		update();
+	});
+	private final Runnable queueListener = this.updateJob::schedule;
+
+	BuildScheduler(BuildQueue queue, DependencyGraph<Run> graph, Submitter submitter, int parallelism,
+			Consumer<MavenRunnerException> errorHandler) {
+		this.queue = queue;
+		this.graph = graph;
+		this.submitter = submitter;
+		this.parallelism = Math.max(1, parallelism);
+		this.errorHandler = errorHandler;
+		this.pending = new ArrayList<>(graph.getOrder());
+	}
+
+	/**
+	 * Launches the runs in the order of their dependencies. The dependencies are
+	 * read from the models of the projects in the background. Errors while
+	 * launching a run are passed to the error handler, which may be called from
+	 * any thread.
+	 */
+	public static void schedule(List<Run> runs, BuildQueue.Priority priority,
+			Consumer<MavenRunnerException> errorHandler) {
+		Job.createSystem(Messages.getString("BuildScheduler.Job"), monitor -> {
+			final MavenRunner runner = new MavenRunner();
+			final DependencyGraph<Run> graph = DependencyGraph.create(runs, BuildScheduler::getKeys,
+					BuildScheduler::getDependencyKeys);
+			new BuildScheduler(BuildQueue.getDefault(), graph, run -> runner.run(run, priority),
+					Runtime.getRuntime().availableProcessors(), errorHandler).start();
+		}).schedule();
+	}
+
+	void start() {
+		this.queue.addListener(this.queueListener);
+		this.updateJob.schedule();
+	}
+
+	/**
+	 * Waits until the scheduler reacted to the changes of the queue so far.
+	 */
+	void join() throws InterruptedException {
+		this.updateJob.join();
+	}
+
+	// only called by the update job, which never runs twice at the same time
+	private void update() {
+		collectDoneBuilds();
+		if (!this.failed) {
+			submitReadyRuns();
+		}
+		if (this.failed) {
+			cancelQueuedBuilds();
+		}
+		if (this.pending.isEmpty() && this.submitted.isEmpty()) {
+			this.queue.removeListener(this.queueListener);
+		}
+	}
+
+	private void collectDoneBuilds() {
+		for (final Iterator<Map.Entry<Run, Build>> iterator = this.submitted.entrySet().iterator(); iterator
+				.hasNext();) {
+			final Map.Entry<Run, Build> entry = iterator.next();
+			final State state = entry.getValue().getState();
+			if (state.isDone()) {
+				iterator.remove();
+				if (state == State.FINISHED) {
+					this.succeeded.add(entry.getKey());
+				} else {
+					this.failed = true;
+				}
+			}
+		}
+	}
+
+	private void cancelQueuedBuilds() {
+		this.pending.clear();
+		// running builds of independent projects are not terminated
+		for (final Build build : new ArrayList<>(this.submitted.values())) {
+			if (build.getState() == State.QUEUED) {
+				this.queue.cancel(build);
+			}
+		}
+	}
+
+	private void submitReadyRuns() {
+		for (final Iterator<Run> iterator = this.pending.iterator(); iterator.hasNext()
+				&& this.submitted.size() < this.parallelism;) {
+			final Run run = iterator.next();
+			if (!this.succeeded.containsAll(this.graph.getUpstream(run))) {
+				continue;
+			}
+			iterator.remove();
+			try {
+				final Build build = this.submitter.submit(run);
+				if (build == null) {
+					this.succeeded.add(run);
+				} else {
+					this.submitted.put(run, build);
+				}
+			} catch (final MavenRunnerException e) {
+				this.failed = true;
+				this.errorHandler.accept(e);
+				return;
+			}
+		}
+	}
+
+	private static Collection<String> getKeys(Run run) {
+		final List<String> result = new ArrayList<>();
+		for (final IProject module : run.modules()) {
+			final IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(module);
+			if (facade != null) {
+				final ArtifactKey artifactKey = facade.getArtifactKey();
+				result.add(getKey(artifactKey.groupId(), artifactKey.artifactId()));
+			}
+		}
+		return result;
+	}
+
+	private static Collection<String> getDependencyKeys(Run run) {
+		final List<String> result = new ArrayList<>();
+		for (final IProject module : run.modules()) {
+			// reads the models that are not cached, not on the UI thread
+			for (final Dependency dependency : ProjectModelCache.getSnapshot(module).getDependencies()) {
+				result.add(getKey(dependency.groupId(), dependency.artifactId()));
+			}
+		}
+		return result;
+	}
+
+	private static String getKey(String groupId, String artifactId) {
+		return groupId + ':' + artifactId;
+	}
+}
@@ -0,0 +1,154 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Dependencies between the nodes of a build, e.g. the runs of several
+ * projects. A node depends on another node if one of its dependency keys is a
+ * key of the other node, keys are usually <code>groupId:artifactId</code>.
+ * <p>
+ * The graph is always acyclic: if the dependencies form a cycle, the
+ * dependencies of the first node of the cycle (in the order the nodes were
+ * given) on the other nodes of the cycle are dropped. The dependencies of
+ * nodes outside of the cycle are kept.
+ * </p>
+ *
+ * @param <T> the type of the nodes
+ */
+public final class DependencyGraph<T> {
+
+	private final Map<T, Set<T>> upstream = new LinkedHashMap<>();
+	private final Map<T, Set<T>> downstream = new HashMap<>();
+	private final List<T> order;
+
+	private DependencyGraph(List<T> nodes, Function<T, Collection<String>> keys,
+			Function<T, Collection<String>> dependencyKeys) {
+		final Map<String, T> nodesByKey = new HashMap<>();
+		for (final T node : nodes) {
+			this.upstream.put(node, new LinkedHashSet<>());
+			this.downstream.put(node, new LinkedHashSet<>());
+			for (final String key : keys.apply(node)) {
+				nodesByKey.putIfAbsent(key, node);
+			}
+		}
+		for (final T node : nodes) {
+			for (final String dependencyKey : dependencyKeys.apply(node)) {
+				final T dependency = nodesByKey.get(dependencyKey);
+				if (dependency != null && dependency != node) {
+					this.upstream.get(node).add(dependency);
+					this.downstream.get(dependency).add(node);
+				}
+			}
+		}
+		this.order = sort();
+	}
+
+	/**
+	 * Creates the graph of the nodes, the dependencies of nodes on keys that no
+	 * node has are ignored.
+	 */
+	public static <T> DependencyGraph<T> create(List<T> nodes, Function<T, Collection<String>> keys,
+			Function<T, Collection<String>> dependencyKeys) {
+		return new DependencyGraph<>(nodes, keys, dependencyKeys);
+	}
+
+	/**
+	 * Returns the nodes the node depends on directly.
+	 */
+	public Set<T> getUpstream(T node) {
+		return Collections.unmodifiableSet(this.upstream.getOrDefault(node, Collections.emptySet()));
+	}
+
+	/**
+	 * Returns the nodes that depend on the node directly.
+	 */
+	public Set<T> getDownstream(T node) {
+		return Collections.unmodifiableSet(this.downstream.getOrDefault(node, Collections.emptySet()));
+	}
+
+	/**
+	 * Returns the nodes in topological order, i.e. every node after the nodes it
+	 * depends on. Independent nodes keep the order they were given in.
+	 */
+	public List<T> getOrder() {
+		return Collections.unmodifiableList(this.order);
+	}
+
+	private List<T> sort() {
+		final Map<T, Integer> remainingUpstream = new HashMap<>();
+		this.upstream.forEach((node, dependencies) -> remainingUpstream.put(node, dependencies.size()));
+
+		final List<T> result = new ArrayList<>(this.upstream.size());
+		final Set<T> unsorted = new LinkedHashSet<>(this.upstream.keySet());
+		while (!unsorted.isEmpty()) {
+			T next = null;
+			for (final T node : unsorted) {
+				if (remainingUpstream.get(node) == 0) {
+					next = node;
+					break;
+				}
+			}
+			if (next == null) {
+				// a cycle, which Maven would reject in a reactor build as well
+				breakCycle(findCycle(unsorted), unsorted, remainingUpstream);
+				continue;
+			}
+			unsorted.remove(next);
+			result.add(next);
+			for (final T dependent : this.downstream.get(next)) {
+				remainingUpstream.merge(dependent, -1, Integer::sum);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the nodes of a cycle, each depending on the next one and the last on
+	 * the first.
+	 */
+	private List<T> findCycle(Set<T> unsorted) {
+		// every unsorted node depends on an unsorted node, so following the
+		// dependencies eventually comes back to a node
+		final List<T> path = new ArrayList<>();
+		final Map<T, Integer> indices = new HashMap<>();
+		T node = unsorted.iterator().next();
+		while (!indices.containsKey(node)) {
+			indices.put(node, path.size());
+			path.add(node);
+			for (final T dependency : this.upstream.get(node)) {
+				if (unsorted.contains(dependency)) {
+					node = dependency;
+					break;
+				}
+			}
+		}
+		return path.subList(indices.get(node), path.size());
+	}
+
+	private void breakCycle(List<T> cycle, Set<T> unsorted, Map<T, Integer> remainingUpstream) {
+		T first = null;
+		for (final T node : unsorted) {
+			if (cycle.contains(node)) {
+				first = node;
+				break;
+			}
+		}
+		Activator.warn("Cyclic dependencies between " + cycle + ", ignoring the dependencies of " + first, null);
+		for (final T dependency : new ArrayList<>(this.upstream.get(first))) {
+			if (cycle.contains(dependency)) {
+				this.upstream.get(first).remove(dependency);
+				this.downstream.get(dependency).remove(first);
+				remainingUpstream.merge(first, -1, Integer::sum);
+			}
+		}
+	}
+}
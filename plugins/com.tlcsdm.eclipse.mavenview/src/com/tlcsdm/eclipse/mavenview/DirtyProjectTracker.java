@@ -0,0 +1,309 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import com.tlcsdm.eclipse.mavenview.BuildQueue.Build;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.BuildListener;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.State;
+
+/**
+ * Knows which projects changed since their last successful build, so that
+ * only those (and the projects depending on them) have to be built again. The
+ * tracker keeps the projects that were built and did not change since; every
+ * other project, e.g. one that was never built by the view, is dirty. A
+ * project becomes dirty when a resource delta changes one of its files,
+ * except for the files Maven writes itself and the files of nested projects,
+ * e.g. the modules below an aggregator.
+ * <p>
+ * The tracker listens to the {@link BuildQueue}, through which every launch of
+ * the view goes. A project is marked as built when a build of it that runs a
+ * lifecycle phase other than <code>clean</code> finished with exit code 0,
+ * unless it changed while Maven was running. A failed or cancelled build marks
+ * its projects as dirty. The built projects are stored in the state location
+ * on shutdown; the file is deleted once read, so that all projects are dirty
+ * after a crash.
+ * </p>
+ */
+public final class DirtyProjectTracker {
+
+	static final String FILE_NAME = "builtProjects.txt";
+
+	// Maven's default build directory, which a build changes itself
+	private static final String BUILD_DIRECTORY = "target";
+	// the Maven configuration of the project, which is no Eclipse metadata
+	private static final String MAVEN_DIRECTORY = ".mvn";
+
+	private static final Set<String> builtProjects = new HashSet<>();
+	// the number of running builds, by project
+	private static final Map<String, Integer> buildingProjects = new HashMap<>();
+	// the number of the last change of the projects that are being built
+	private static final Map<String, Long> lastChanges = new HashMap<>();
+	// the number of the last change when the build was launched
+	private static final Map<Build, Long> startedBuilds = new HashMap<>();
+	private static long changeCount;
+
+	private static final IResourceChangeListener resourceListener = DirtyProjectTracker::resourceChanged;
+
+	static final BuildListener buildListener = new BuildListener() {
+
+		@Override
+		public void buildStarted(Build build) {
+			if (isBuild(build)) {
+				DirtyProjectTracker.buildStarted(build);
+			}
+		}
+
+		@Override
+		public void buildDone(Build build) {
+			DirtyProjectTracker.buildDone(build);
+		}
+	};
+
+	private DirtyProjectTracker() {
+		// hidden
+	}
+
+	/**
+	 * Restores the built projects and starts listening to changes of the
+	 * workspace.
+	 */
+	public static void connect() {
+		try {
+			final Path file = getFile();
+			if (Files.exists(file)) {
+				read(file);
+				// written again on shutdown
+				Files.delete(file);
+			}
+		} catch (final IOException e) {
+			// all projects are dirty then
+			Activator.getDefault().getLog().warn("Failed to read the built projects", e);
+		}
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(resourceListener, IResourceChangeEvent.POST_CHANGE);
+		BuildQueue.getDefault().addBuildListener(buildListener);
+	}
+
+	/**
+	 * Stops listening to changes of the workspace and stores the built projects.
+	 */
+	public static void disconnect() {
+		BuildQueue.getDefault().removeBuildListener(buildListener);
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(resourceListener);
+		try {
+			write(getFile());
+		} catch (final IOException e) {
+			Activator.getDefault().getLog().warn("Failed to write the built projects", e);
+		}
+		clear();
+	}
+
+	/**
+	 * Returns the projects that changed since their last successful build.
+	 */
+	public static synchronized List<IProject> getDirtyProjects(IProject[] projects) {
+		final List<IProject> result = new ArrayList<>();
+		for (final IProject project : projects) {
+			if (!builtProjects.contains(project.getName())) {
+				result.add(project);
+			}
+		}
+		return result;
+	}
+
+	public static synchronized boolean isDirty(IProject project) {
+		return !builtProjects.contains(project.getName());
+	}
+
+	/**
+	 * Returns true if the build runs a lifecycle phase other than
+	 * <code>clean</code>, i.e. builds its projects, and not only plugin goals.
+	 */
+	static boolean isBuild(Build build) {
+		final String goals;
+		try {
+			goals = build.getConfiguration().getAttribute(MavenRunner.ATTR_GOALS, "");
+		} catch (final CoreException e) {
+			Activator.getDefault().getLog().warn("Failed to read the goals of " + build.getName(), e);
+			return false;
+		}
+		return isBuild(goals);
+	}
+
+	static boolean isBuild(String goals) {
+		for (final String goal : goals.trim().split("\\s+")) {
+			for (final Phase phase : Phase.values()) {
+				if (phase != Phase.CLEAN && phase.getDisplayName().equals(goal)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	static synchronized void buildStarted(Build build) {
+		startedBuilds.put(build, changeCount);
+		for (final IProject project : build.getProjects()) {
+			buildingProjects.merge(project.getName(), 1, Integer::sum);
+		}
+	}
+
+	static synchronized void buildDone(Build build) {
+		final Long start = startedBuilds.remove(build);
+		if (start == null) {
+			// no build, or cancelled before it was launched
+			return;
+		}
+		for (final IProject project : build.getProjects()) {
+			final String projectName = project.getName();
+			final boolean changed = lastChanges.getOrDefault(projectName, start) > start;
+			if (build.getState() == State.FINISHED && !changed) {
+				builtProjects.add(projectName);
+			} else {
+				// e.g. the build failed and may have left broken outputs
+				builtProjects.remove(projectName);
+			}
+			if (buildingProjects.merge(projectName, -1, Integer::sum) == 0) {
+				buildingProjects.remove(projectName);
+				lastChanges.remove(projectName);
+			}
+		}
+	}
+
+	static synchronized void markDirty(String projectName) {
+		builtProjects.remove(projectName);
+		if (buildingProjects.containsKey(projectName)) {
+			// the running builds do not include the change
+			lastChanges.put(projectName, ++changeCount);
+		}
+	}
+
+	private static synchronized boolean isTracked(String projectName) {
+		return builtProjects.contains(projectName) || buildingProjects.containsKey(projectName);
+	}
+
+	private static void resourceChanged(IResourceChangeEvent event) {
+		final IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		Set<IPath> projectLocations = null;
+		for (final IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			final String projectName = projectDelta.getResource().getName();
+			// projects that are dirty already need not be visited, unless they are being built
+			if (isTracked(projectName)) {
+				if (projectLocations == null) {
+					projectLocations = getProjectLocations();
+				}
+				if (hasChangedFiles(projectDelta, projectLocations)) {
+					markDirty(projectName);
+				}
+			}
+		}
+	}
+
+	private static Set<IPath> getProjectLocations() {
+		final Set<IPath> result = new HashSet<>();
+		for (final IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+			final IPath location = project.getLocation();
+			if (location != null) {
+				result.add(location);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns true if the delta of the project changes a file that may affect the
+	 * build of the project.
+	 *
+	 * @param projectLocations the locations of all projects, the folders at these
+	 *                         locations belong to the nested projects
+	 */
+	static boolean hasChangedFiles(IResourceDelta projectDelta, Set<IPath> projectLocations) {
+		if (projectDelta.getKind() != IResourceDelta.CHANGED) {
+			// added or removed
+			return true;
+		}
+		for (final IResourceDelta childDelta : projectDelta.getAffectedChildren()) {
+			if (!isBuildMetadata(childDelta.getResource()) && hasChangedFile(childDelta, projectLocations)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasChangedFile(IResourceDelta delta, Set<IPath> projectLocations) {
+		final IResource resource = delta.getResource();
+		if (resource.isDerived() || resource.isTeamPrivateMember()) {
+			return false;
+		}
+		if (resource.getType() == IResource.FILE) {
+			return delta.getKind() != IResourceDelta.CHANGED
+					|| (delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) != 0;
+		}
+		if (projectLocations.contains(resource.getLocation())) {
+			// a nested project, which is tracked by itself
+			return false;
+		}
+		for (final IResourceDelta childDelta : delta.getAffectedChildren()) {
+			if (hasChangedFile(childDelta, projectLocations)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true for a resource in the project root that does not affect the
+	 * build: the build directory and the Eclipse metadata like
+	 * <code>.settings</code>.
+	 */
+	private static boolean isBuildMetadata(IResource resource) {
+		final String name = resource.getName();
+		return name.equals(BUILD_DIRECTORY) || name.startsWith(".") && !name.equals(MAVEN_DIRECTORY);
+	}
+
+	private static Path getFile() {
+		return Activator.getDefault().getStateLocation().append(FILE_NAME).toFile().toPath();
+	}
+
+	static synchronized void read(Path file) throws IOException {
+		builtProjects.clear();
+		for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+			if (!line.isEmpty()) {
+				builtProjects.add(line);
+			}
+		}
+	}
+
+	static synchronized void write(Path file) throws IOException {
+		Files.write(file, new TreeSet<>(builtProjects), StandardCharsets.UTF_8);
+	}
+
+	static synchronized void clear() {
+		builtProjects.clear();
+		buildingProjects.clear();
+		lastChanges.clear();
+		startedBuilds.clear();
+		changeCount = 0;
+	}
+}
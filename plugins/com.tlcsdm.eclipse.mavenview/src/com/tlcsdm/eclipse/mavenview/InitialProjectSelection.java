@@ -1,9 +1,8 @@
 package com.tlcsdm.eclipse.mavenview;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -27,50 +26,25 @@ public enum InitialProjectSelection implements Displayable {
 
 		@Override
 		public IProject[] fetchMavenProjects() {
-			final List<IPath> roots = fetchAllRoots();
+			final Set<IPath> roots = fetchAllRoots();
 			return collectMavenProjects(project -> {
 				return roots.contains(project.getProject().getLocation());
 			});
 		}
 
-		List<IPath> fetchAllRoots() {
+		Set<IPath> fetchAllRoots() {
 			final IWorkspaceRoot workspaceRoot = ResourcesPlugin.getWorkspace().getRoot();
 			final IProject[] projects = workspaceRoot.getProjects();
 
-			final List<IPath> roots = new ArrayList<>(projects.length);
+			final ProjectPathTrie trie = new ProjectPathTrie();
 			for (int i = 0; i < projects.length; i++) {
-				final IPath possibleRoot = projects[i].getLocation();
-
-				boolean consumed = false;
-				int rootSize = roots.size();
-				for (int rootIndex = 0; rootIndex < rootSize; rootIndex++) {
-					final IPath root = roots.get(rootIndex);
-
-					if (possibleRoot.isPrefixOf(root)) {
-						// possibleRoot is below the root
-						roots.remove(rootIndex);
-						if (!consumed) {
-							// possibleRoot can be the root of other paths as well
-							roots.add(rootIndex, possibleRoot);
-							consumed = true;
-						} else {
-							rootIndex--;
-							rootSize--;
-						}
-					} else if (root.isPrefixOf(possibleRoot)) {
-						// root is below the possibleRoot
-						consumed = true;
-						break;
-					}
-				}
-
-				if (!consumed) {
-					// possibleRoot is completely new
-					roots.add(possibleRoot);
+				final IPath location = projects[i].getLocation();
+				// e.g. projects on unknown file systems have no local location
+				if (location != null) {
+					trie.add(location);
 				}
 			}
-
-			return roots;
+			return trie.getRoots();
 		}
 	};
 
@@ -90,28 +64,14 @@ public enum InitialProjectSelection implements Displayable {
 				result.add(project);
 			}
 		}
-		result.removeAll(Arrays.asList(MavenViewPreferences.getNeverSelectedProjects()));
+		result.removeAll(new HashSet<>(Arrays.asList(MavenViewPreferences.getNeverSelectedProjects())));
 		result.addAll(Arrays.asList(MavenViewPreferences.getAlwaysSelectedProjects()));
 
 		return result.toArray(new IProject[0]);
 	}
 
 	public static IProject[] fetchAllMavenProjects() {
-		final IWorkspaceRoot workspaceRoot = ResourcesPlugin.getWorkspace().getRoot();
-		final IProject[] projects = workspaceRoot.getProjects();
-
-		final Set<IProject> result = new LinkedHashSet<>();
-		for (int i = 0; i < projects.length; i++) {
-			final IProject project = projects[i];
-			try {
-				if (isMavenProject(project)) {
-					result.add(project);
-				}
-			} catch (final CoreException e) {
-				// we'll ignore this case
-			}
-		}
-		return result.toArray(new IProject[0]);
+		return MavenProjectIndex.getMavenProjects();
 	}
 
 	static boolean isMavenProject(IProject project) throws CoreException {
@@ -0,0 +1,214 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationListener;
+import org.eclipse.debug.core.ILaunchManager;
+
+/**
+ * Keeps the m2e launch configurations by their working directory and by the
+ * {@link MavenRunConfig} they were created for, so that the attributes of all
+ * launch configurations do not have to be read for every project node and
+ * every run. The index is built on first use and then updated by an
+ * {@link ILaunchConfigurationListener}.
+ * <p>
+ * The launch configurations that {@link MavenRunner} creates are never saved,
+ * so they are {@link #add(ILaunchConfiguration, String, MavenRunConfig) added}
+ * by the runner itself and reused until the index is disconnected.
+ * </p>
+ */
+public final class LaunchConfigIndex {
+
+	private static final String WORKING_DIR_PREFIX = "${workspace_loc:/";
+	private static final String WORKING_PROJECT_PREFIX = "${project_loc:";
+	private static final String WORKING_DIR_SUFFIX = "}";
+
+	/**
+	 * The indexed attributes of a launch configuration, needed to remove it
+	 * because a deleted configuration cannot be read anymore.
+	 */
+	private record Entry(String workingDirectory, RunConfigKey runConfigKey) {
+	}
+
+	/**
+	 * A run config and the directory it runs in, because equal configs of
+	 * different projects need different launch configurations.
+	 */
+	private record RunConfigKey(String workingDirectory, Object runConfig) {
+	}
+
+	private static final Map<ILaunchConfiguration, Entry> entries = new HashMap<>();
+	private static final Map<String, List<ILaunchConfiguration>> byWorkingDirectory = new HashMap<>();
+	private static final Map<RunConfigKey, List<ILaunchConfiguration>> byRunConfig = new HashMap<>();
+
+	private static boolean built;
+
+	private static final ILaunchConfigurationListener launchConfigurationListener = new ILaunchConfigurationListener() {
+
+		@Override
+		public void launchConfigurationAdded(ILaunchConfiguration configuration) {
+			update(configuration);
+		}
+
+		@Override
+		public void launchConfigurationChanged(ILaunchConfiguration configuration) {
+			update(configuration);
+		}
+
+		@Override
+		public void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+			remove(configuration);
+		}
+	};
+
+	private LaunchConfigIndex() {
+		// hidden
+	}
+
+	/**
+	 * Starts listening to changes of the launch configurations.
+	 */
+	public static void connect() {
+		DebugPlugin.getDefault().getLaunchManager().addLaunchConfigurationListener(launchConfigurationListener);
+	}
+
+	/**
+	 * Stops listening to changes of the launch configurations and forgets them.
+	 */
+	public static void disconnect() {
+		final DebugPlugin debugPlugin = DebugPlugin.getDefault();
+		if (debugPlugin != null) {
+			debugPlugin.getLaunchManager().removeLaunchConfigurationListener(launchConfigurationListener);
+		}
+		synchronized (LaunchConfigIndex.class) {
+			entries.clear();
+			byWorkingDirectory.clear();
+			byRunConfig.clear();
+			built = false;
+		}
+	}
+
+	/**
+	 * Returns the launch configurations whose working directory is the project.
+	 */
+	public static synchronized ILaunchConfiguration[] getLaunchConfigurations(IProject project) {
+		ensureBuilt();
+		final List<ILaunchConfiguration> result = new ArrayList<>(
+				byWorkingDirectory.getOrDefault(WORKING_DIR_PREFIX + project.getName() + WORKING_DIR_SUFFIX,
+						Collections.emptyList()));
+		result.addAll(byWorkingDirectory.getOrDefault(
+				WORKING_PROJECT_PREFIX + project.getName() + WORKING_DIR_SUFFIX, Collections.emptyList()));
+		return result.toArray(new ILaunchConfiguration[0]);
+	}
+
+	/**
+	 * Returns the launch configurations that were created for the run
+	 * configuration and run in the working directory.
+	 */
+	public static synchronized List<ILaunchConfiguration> findLaunchConfigurations(String workingDirectory,
+			MavenRunConfig runConfig) {
+		ensureBuilt();
+		return new ArrayList<>(byRunConfig.getOrDefault(new RunConfigKey(workingDirectory, runConfig),
+				Collections.emptyList()));
+	}
+
+	/**
+	 * Adds a launch configuration that was created for the run configuration but
+	 * is not saved, so that the launch manager does not know it.
+	 */
+	public static synchronized void add(ILaunchConfiguration configuration, String workingDirectory,
+			MavenRunConfig runConfig) {
+		ensureBuilt();
+		// the caller may change its config later
+		put(configuration, workingDirectory, runConfig.copy());
+	}
+
+	private static void ensureBuilt() {
+		if (built) {
+			return;
+		}
+		final ILaunchManager launchManager = DebugPlugin.getDefault().getLaunchManager();
+		try {
+			for (final ILaunchConfiguration configuration : launchManager.getLaunchConfigurations(
+					launchManager.getLaunchConfigurationType(MavenRunner.LAUNCH_CONFIGURATION_TYPE_ID))) {
+				read(configuration);
+			}
+		} catch (final CoreException e) {
+			// we can ignore that
+			Activator.getDefault().getLog().warn("Failed to read the Maven launch configurations", e);
+		}
+		built = true;
+	}
+
+	private static synchronized void update(ILaunchConfiguration configuration) {
+		if (!built || configuration.isWorkingCopy()) {
+			// the configurations are read when they are needed
+			return;
+		}
+		remove(configuration);
+		try {
+			if (MavenRunner.LAUNCH_CONFIGURATION_TYPE_ID.equals(configuration.getType().getIdentifier())) {
+				read(configuration);
+			}
+		} catch (final CoreException e) {
+			// e.g. the type of the configuration is not installed
+			Activator.getDefault().getLog().warn("Failed to read the launch configuration " + configuration.getName(),
+					e);
+		}
+	}
+
+	private static void read(ILaunchConfiguration configuration) throws CoreException {
+		put(configuration, configuration.getAttribute(MavenRunner.ATTR_WORKING_DIRECTORY, (String) null),
+				configuration.getAttributes().get(MavenRunner.ATTR_CONFIG));
+	}
+
+	static synchronized void put(ILaunchConfiguration configuration, String workingDirectory, Object runConfig) {
+		final RunConfigKey runConfigKey = runConfig == null ? null : new RunConfigKey(workingDirectory, runConfig);
+		entries.put(configuration, new Entry(workingDirectory, runConfigKey));
+		if (workingDirectory != null) {
+			byWorkingDirectory.computeIfAbsent(workingDirectory, k -> new ArrayList<>()).add(configuration);
+		}
+		if (runConfigKey != null) {
+			byRunConfig.computeIfAbsent(runConfigKey, k -> new ArrayList<>()).add(configuration);
+		}
+	}
+
+	static synchronized void remove(ILaunchConfiguration configuration) {
+		final Entry entry = entries.remove(configuration);
+		if (entry == null) {
+			return;
+		}
+		removeFrom(byWorkingDirectory, entry.workingDirectory(), configuration);
+		removeFrom(byRunConfig, entry.runConfigKey(), configuration);
+	}
+
+	private static <K> void removeFrom(Map<K, List<ILaunchConfiguration>> map, K key,
+			ILaunchConfiguration configuration) {
+		if (key == null) {
+			return;
+		}
+		final List<ILaunchConfiguration> configurations = map.get(key);
+		if (configurations != null && configurations.remove(configuration) && configurations.isEmpty()) {
+			map.remove(key);
+		}
+	}
+
+	/**
+	 * Forgets all configurations, and marks the index as built so that tests can
+	 * fill it with {@link #put(ILaunchConfiguration, String, Object)}.
+	 */
+	static synchronized void clear() {
+		entries.clear();
+		byWorkingDirectory.clear();
+		byRunConfig.clear();
+		built = true;
+	}
+}
@@ -0,0 +1,144 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Keeps the open Maven projects of the workspace, so that the workspace does not
+ * have to be walked and every project asked for its natures each time the
+ * displayed projects are computed. The index is built on first use and then
+ * updated from the resource deltas of added, removed, opened or closed projects
+ * and of projects whose description (and therefore natures) changed.
+ */
+public final class MavenProjectIndex {
+
+	// Sorted by name like the projects of the workspace root
+	private static final Map<String, IProject> projectsByName = new TreeMap<>();
+	private static final Map<IPath, IProject> projectsByLocation = new HashMap<>();
+	private static final Map<String, IPath> locationsByName = new HashMap<>();
+
+	private static boolean built;
+	private static IProject[] projects;
+
+	private static final IResourceChangeListener resourceListener = MavenProjectIndex::resourceChanged;
+
+	private MavenProjectIndex() {
+		// hidden
+	}
+
+	/**
+	 * Starts listening to changes of the workspace.
+	 */
+	public static void connect() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(resourceListener, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Stops listening to changes of the workspace and forgets the projects.
+	 */
+	public static void disconnect() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(resourceListener);
+		synchronized (MavenProjectIndex.class) {
+			projectsByName.clear();
+			projectsByLocation.clear();
+			locationsByName.clear();
+			projects = null;
+			built = false;
+		}
+	}
+
+	/**
+	 * Returns the open Maven projects of the workspace, sorted by name.
+	 */
+	public static synchronized IProject[] getMavenProjects() {
+		ensureBuilt();
+		if (projects == null) {
+			projects = projectsByName.values().toArray(new IProject[0]);
+		}
+		return projects.clone();
+	}
+
+	/**
+	 * Returns the open Maven project with the name or null.
+	 */
+	public static synchronized IProject getMavenProject(String name) {
+		ensureBuilt();
+		return projectsByName.get(name);
+	}
+
+	/**
+	 * Returns the open Maven project with the location in the local file system or
+	 * null.
+	 */
+	public static synchronized IProject getMavenProject(IPath location) {
+		ensureBuilt();
+		return projectsByLocation.get(location);
+	}
+
+	private static void ensureBuilt() {
+		if (built) {
+			return;
+		}
+		for (final IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+			update(project);
+		}
+		built = true;
+	}
+
+	private static void resourceChanged(IResourceChangeEvent event) {
+		final IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		synchronized (MavenProjectIndex.class) {
+			if (!built) {
+				// the projects are read when they are needed
+				return;
+			}
+			for (final IResourceDelta projectDelta : delta.getAffectedChildren(
+					IResourceDelta.ADDED | IResourceDelta.REMOVED | IResourceDelta.CHANGED)) {
+				if (projectDelta.getKind() != IResourceDelta.CHANGED
+						|| (projectDelta.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0) {
+					update((IProject) projectDelta.getResource());
+				}
+			}
+		}
+	}
+
+	private static void update(IProject project) {
+		remove(project);
+		try {
+			if (InitialProjectSelection.isMavenProject(project)) {
+				projectsByName.put(project.getName(), project);
+				final IPath location = project.getLocation();
+				if (location != null) {
+					projectsByLocation.put(location, project);
+					locationsByName.put(project.getName(), location);
+				}
+				projects = null;
+			}
+		} catch (final CoreException e) {
+			// we'll ignore this case
+		}
+	}
+
+	private static void remove(IProject project) {
+		// the location of a deleted project is not known anymore
+		if (projectsByName.remove(project.getName()) != null) {
+			final IPath location = locationsByName.remove(project.getName());
+			if (location != null) {
+				projectsByLocation.remove(location);
+			}
+			projects = null;
+		}
+	}
+}
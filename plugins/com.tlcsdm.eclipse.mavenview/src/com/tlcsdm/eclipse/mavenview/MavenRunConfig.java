@@ -8,9 +8,26 @@ public class MavenRunConfig {
 
 	private Phase[] phases = { Phase.CLEAN, Phase.INSTALL };
 	private String[] profiles = new String[0];
+	// Plugin goals run after the phases in the given order, e.g. "checkstyle:check"
+	private String[] goals = new String[0];
+	// Selectors of the reactor projects to build, see "mvn --projects"
+	private String[] projects = new String[0];
+	private boolean alsoMake;
+	private boolean alsoMakeDependents;
 
 	public String toGoalString() {
-		return getPhasesAsString();
+		final StringBuilder result = new StringBuilder(getPhasesAsString());
+		for (final String goal : this.goals) {
+			if (result.length() > 0) {
+				result.append(' ');
+			}
+			result.append(goal);
+		}
+		if (this.projects.length > 0) {
+			result.append(" -pl ").append(String.join(",", this.projects)).append(this.alsoMake ? " -am" : "")
+					.append(this.alsoMakeDependents ? " -amd" : "");
+		}
+		return result.toString();
 	}
 
 	public String getPhasesAsString() {
@@ -49,13 +66,116 @@ public class MavenRunConfig {
 		return Arrays.stream(this.profiles).filter(p -> p != null && p.length() > 0).collect(Collectors.joining(","));
 	}
 
+	public String[] getGoals() {
+		return this.goals;
+	}
+
+	/**
+	 * Runs the plugin goals (<code>prefix:goal</code>) after the phases, in the
+	 * same Maven invocation.
+	 */
+	public MavenRunConfig goals(String... newGoals) {
+		setGoals(newGoals);
+		return this;
+	}
+
+	public void setGoals(String... goals) {
+		this.goals = goals == null ? new String[0] : goals.clone();
+	}
+
+	public String[] getProjects() {
+		return this.projects;
+	}
+
+	/**
+	 * Restricts the build of a reactor to the projects, given by their path
+	 * relative to the directory the build runs in.
+	 */
+	public MavenRunConfig projects(String... newProjects) {
+		setProjects(newProjects);
+		return this;
+	}
+
+	public void setProjects(String... projects) {
+		this.projects = projects == null ? new String[0] : projects.clone();
+	}
+
+	public boolean isAlsoMake() {
+		return this.alsoMake;
+	}
+
+	/**
+	 * Builds the projects the selected {@link #getProjects() projects} depend on
+	 * as well.
+	 */
+	public MavenRunConfig alsoMake(boolean newAlsoMake) {
+		setAlsoMake(newAlsoMake);
+		return this;
+	}
+
+	public void setAlsoMake(boolean alsoMake) {
+		this.alsoMake = alsoMake;
+	}
+
+	public boolean isAlsoMakeDependents() {
+		return this.alsoMakeDependents;
+	}
+
+	/**
+	 * Builds the projects that depend on the selected {@link #getProjects()
+	 * projects} as well.
+	 */
+	public MavenRunConfig alsoMakeDependents(boolean newAlsoMakeDependents) {
+		setAlsoMakeDependents(newAlsoMakeDependents);
+		return this;
+	}
+
+	public void setAlsoMakeDependents(boolean alsoMakeDependents) {
+		this.alsoMakeDependents = alsoMakeDependents;
+	}
+
 	public MavenRunConfig copy() {
-		return new MavenRunConfig().phases(this.phases.clone()).profiles(this.profiles == null ? new String[0] : this.profiles.clone());
+		return new MavenRunConfig().phases(this.phases.clone()).profiles(this.profiles == null ? new String[0] : this.profiles.clone())
+				.goals(this.goals).projects(this.projects).alsoMake(this.alsoMake)
+				.alsoMakeDependents(this.alsoMakeDependents);
+	}
+
+	/**
+	 * Two configs are equal if they result in the same Maven command line, the
+	 * order of the phases does not matter.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof MavenRunConfig)) {
+			return false;
+		}
+		final MavenRunConfig other = (MavenRunConfig) obj;
+		return Arrays.equals(getSortedPhases(), other.getSortedPhases())
+				&& Arrays.equals(this.profiles, other.profiles) && Arrays.equals(this.goals, other.goals)
+				&& Arrays.equals(this.projects, other.projects) && this.alsoMake == other.alsoMake
+				&& this.alsoMakeDependents == other.alsoMakeDependents;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(Arrays.hashCode(getSortedPhases()), Arrays.hashCode(this.profiles),
+				Arrays.hashCode(this.goals), Arrays.hashCode(this.projects), this.alsoMake, this.alsoMakeDependents);
+	}
+
+	private Phase[] getSortedPhases() {
+		final Phase[] result = this.phases.clone();
+		Arrays.sort(result);
+		return result;
 	}
 
 	@Override
 	public String toString() {
-		return "MavenRunConfig [" + Arrays.toString(this.phases) + ", profiles=" + Arrays.toString(this.profiles) + "]";
+		return "MavenRunConfig [" + Arrays.toString(this.phases) + ", profiles=" + Arrays.toString(this.profiles)
+				+ ", goals=" + Arrays.toString(this.goals) + ", projects=" + Arrays.toString(this.projects)
+				+ ", alsoMake=" + this.alsoMake + ", alsoMakeDependents=" + this.alsoMakeDependents + "]";
 	}
 
 }
\ No newline at end of file
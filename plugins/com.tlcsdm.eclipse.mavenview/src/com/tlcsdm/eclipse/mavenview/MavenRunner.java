@@ -1,7 +1,6 @@
 package com.tlcsdm.eclipse.mavenview;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -17,7 +16,6 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationType;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
-import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.debug.ui.RefreshTab;
 import org.eclipse.jdt.core.IClasspathEntry;
@@ -30,6 +28,7 @@ import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IMavenProjectRegistry;
 import org.eclipse.m2e.core.project.IProjectConfiguration;
 
+import com.tlcsdm.eclipse.mavenview.ReactorRunPlanner.Run;
 import com.tlcsdm.eclipse.mavenview.internal.ProfileSelectionManager;
 
 /**
@@ -53,8 +52,6 @@ public class MavenRunner {
 	// Misc constants
 	public final static String ATTR_CONFIG = "com.tlcsdm.eclipse.mavenview.config"; //$NON-NLS-1$
 
-	private static final String mode = "run";
-
 	private final ILaunchManager launchManager;
 	private final ILaunchConfigurationType launchConfigurationType;
 
@@ -65,16 +62,51 @@ public class MavenRunner {
 	}
 
 	public void runForProject(IProject project, MavenRunConfig config) throws MavenRunnerException {
+		runForProject(project, config, BuildQueue.Priority.INTERACTIVE);
+	}
+
+	/**
+	 * Queues the run of the config for the project in the {@link BuildQueue},
+	 * see {@link #run(Run, BuildQueue.Priority)}.
+	 *
+	 * @return the queued build, or null if there is nothing to launch
+	 */
+	public BuildQueue.Build runForProject(IProject project, MavenRunConfig config, BuildQueue.Priority priority)
+			throws MavenRunnerException {
+		return run(new Run(project, config), priority);
+	}
+
+	/**
+	 * Queues the run in the {@link BuildQueue}, unless it is up to date according
+	 * to the {@link BuildCache}. Checking the cache reads the sources of the
+	 * project, so it is not called on the UI thread.
+	 *
+	 * @return the queued build, or null if there is nothing to launch
+	 */
+	public BuildQueue.Build run(Run run, BuildQueue.Priority priority) throws MavenRunnerException {
+		final ILaunchConfiguration launchConfiguration = getLaunchConfiguration(run.project(), run.config());
+		if (BuildCache.isUpToDate(run, launchConfiguration)) {
+			return null;
+		}
+		final BuildQueue.Build build = BuildQueue.getDefault().submit(launchConfiguration,
+				run.project().getName() + ": " + run.config().toGoalString(), priority, run.modules());
+		BuildCache.launched(run, build);
+		return build;
+	}
+
+	/**
+	 * Returns the launch configuration that runs the config for the project, an
+	 * existing one if there is one.
+	 */
+	public ILaunchConfiguration getLaunchConfiguration(IProject project, MavenRunConfig config)
+			throws MavenRunnerException {
 		Objects.requireNonNull(project, "Define the project to run from!");
 		Objects.requireNonNull(config, "Define the config to run!");
 
 		final IContainer baseDir = project;
 
 		try {
-			final ILaunchConfiguration launchConfiguration = findOrCreateLaunchConfiguration(baseDir, config);
-			if (launchConfiguration != null) {
-				DebugUITools.launch(launchConfiguration, mode);
-			}
+			return findOrCreateLaunchConfiguration(baseDir, config);
 		} catch (final CoreException e) {
 			throw new MavenRunnerException(MessageFormat.format(Messages.getString("CannotExecuteOnProjectPattern"),
 					project.getName(), config.toGoalString()), e);
@@ -88,6 +120,15 @@ public class MavenRunner {
 	 * @throws MavenRunnerException if execution fails
 	 */
 	public void runGoalForProject(IProject project, String goalCommand) throws MavenRunnerException {
+		runGoalForProject(project, goalCommand, BuildQueue.Priority.INTERACTIVE);
+	}
+
+	/**
+	 * Queues the run of a specific Maven goal for the project in the
+	 * {@link BuildQueue}.
+	 */
+	public void runGoalForProject(IProject project, String goalCommand, BuildQueue.Priority priority)
+			throws MavenRunnerException {
 		Objects.requireNonNull(project, "Define the project to run from!");
 		Objects.requireNonNull(goalCommand, "Define the goal to run!");
 
@@ -96,7 +137,8 @@ public class MavenRunner {
 		try {
 			final ILaunchConfiguration launchConfiguration = createGoalLaunchConfiguration(baseDir, goalCommand);
 			if (launchConfiguration != null) {
-				DebugUITools.launch(launchConfiguration, mode);
+				BuildQueue.getDefault().submit(launchConfiguration, project.getName() + ": " + goalCommand, priority,
+						List.of(project));
 			}
 		} catch (final CoreException e) {
 			throw new MavenRunnerException(MessageFormat.format(Messages.getString("CannotExecuteOnProjectPattern"),
@@ -106,25 +148,25 @@ public class MavenRunner {
 
 	private ILaunchConfiguration findOrCreateLaunchConfiguration(IContainer baseDir, MavenRunConfig config)
 			throws CoreException {
-		final List<ILaunchConfiguration> existingConfigs = findExistingLaunchConfigurations(config);
-
-		if (existingConfigs.isEmpty())
-			return createLaunchConfiguration(baseDir, config);
+		final String workingDirectory = baseDir.getLocation().toOSString();
+		final String profiles = getProfiles(baseDir, config);
+		final boolean skipTests = isSkipTests();
+		for (final ILaunchConfiguration existingConfig : findExistingLaunchConfigurations(workingDirectory, config)) {
+			// the selected profiles or the preference may have changed since it was created
+			if (Objects.equals(profiles, existingConfig.getAttribute(ATTR_PROFILES, (String) null))
+					&& skipTests == existingConfig.getAttribute(ATTR_SKIP_TESTS, false)) {
+				return existingConfig;
+			}
+		}
 
-		return existingConfigs.get(0);
+		final ILaunchConfiguration launchConfiguration = createLaunchConfiguration(baseDir, config);
+		LaunchConfigIndex.add(launchConfiguration, workingDirectory, config);
+		return launchConfiguration;
 	}
 
-	private List<ILaunchConfiguration> findExistingLaunchConfigurations(MavenRunConfig config) throws CoreException {
-		final List<ILaunchConfiguration> result = new ArrayList<>();
-
-		final ILaunchConfiguration[] launchConfigurations = this.launchManager
-				.getLaunchConfigurations(this.launchConfigurationType);
-		for (final ILaunchConfiguration configuration : launchConfigurations) {
-			if (config.equals(configuration.getAttributes().get(MavenRunner.ATTR_CONFIG))) {
-				result.add(configuration);
-			}
-		}
-		return result;
+	private List<ILaunchConfiguration> findExistingLaunchConfigurations(String workingDirectory,
+			MavenRunConfig config) {
+		return LaunchConfigIndex.findLaunchConfigurations(workingDirectory, config);
 	}
 
 	private ILaunchConfiguration createLaunchConfiguration(IContainer basedir, MavenRunConfig config)
@@ -133,6 +175,10 @@ public class MavenRunner {
 		final String goals = config.toGoalString();
 		final ILaunchConfigurationWorkingCopy workingCopy = createBaseLaunchConfiguration(basedir, goals);
 		workingCopy.setAttribute(ATTR_CONFIG, config);
+		// e.g. a reactor build uses the profiles of its modules, not of its root
+		if (!config.getProfilesAsString().isEmpty()) {
+			workingCopy.setAttribute(ATTR_PROFILES, config.getProfilesAsString());
+		}
 
 		return workingCopy;
 	}
@@ -160,10 +206,12 @@ public class MavenRunner {
 		workingCopy.setAttribute(IDebugUIConstants.ATTR_PRIVATE, true);
 		workingCopy.setAttribute(RefreshTab.ATTR_REFRESH_SCOPE, "${project}"); //$NON-NLS-1$
 		workingCopy.setAttribute(RefreshTab.ATTR_REFRESH_RECURSIVE, true);
-		boolean skipTests = Activator.getDefault().getPreferenceStore().getBoolean(MavenViewPreferences.SKIP_TESTS);
-		workingCopy.setAttribute(MavenRunner.ATTR_SKIP_TESTS, skipTests);
+		workingCopy.setAttribute(MavenRunner.ATTR_SKIP_TESTS, isSkipTests());
 
-		setProjectConfiguration(workingCopy, basedir);
+		final String profiles = getSelectedProfiles(basedir);
+		if (profiles != null) {
+			workingCopy.setAttribute(ATTR_PROFILES, profiles);
+		}
 
 		final IPath path = getJreContainerPath(basedir);
 		if (path != null) {
@@ -174,14 +222,31 @@ public class MavenRunner {
 		return workingCopy;
 	}
 
-	private static void setProjectConfiguration(ILaunchConfigurationWorkingCopy workingCopy, IContainer basedir) {
+	private static boolean isSkipTests() {
+		return Activator.getDefault().getPreferenceStore().getBoolean(MavenViewPreferences.SKIP_TESTS);
+	}
+
+	/**
+	 * Returns the profiles the launch configuration of the config activates, or
+	 * null if there are none.
+	 */
+	private static String getProfiles(IContainer basedir, MavenRunConfig config) {
+		if (!config.getProfilesAsString().isEmpty()) {
+			return config.getProfilesAsString();
+		}
+		return getSelectedProfiles(basedir);
+	}
+
+	/**
+	 * Returns the profiles selected for the project, or null if there are none.
+	 */
+	private static String getSelectedProfiles(IContainer basedir) {
 		final IProject project = basedir.getProject();
 		if (project != null) {
 			// First try to get user-selected profiles from ProfileSelectionManager
 			final String[] selectedProfiles = ProfileSelectionManager.getSelectedProfiles(project);
 			if (selectedProfiles != null && selectedProfiles.length > 0) {
-				workingCopy.setAttribute(ATTR_PROFILES, String.join(",", selectedProfiles));
-				return;
+				return String.join(",", selectedProfiles);
 			}
 		}
 
@@ -193,9 +258,10 @@ public class MavenRunner {
 			final IProjectConfiguration configuration = projectFacade.getConfiguration();
 			final String selectedProfiles = configuration.getSelectedProfiles();
 			if (selectedProfiles != null && selectedProfiles.length() > 0) {
-				workingCopy.setAttribute(ATTR_PROFILES, selectedProfiles);
+				return selectedProfiles;
 			}
 		}
+		return null;
 	}
 
 	private static IPath getJreContainerPath(IContainer basedir) throws CoreException {
@@ -1,37 +1,57 @@
 package com.tlcsdm.eclipse.mavenview;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jface.action.MenuManager;
+import org.eclipse.jface.layout.GridDataFactory;
+import org.eclipse.jface.layout.GridLayoutFactory;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
+import org.eclipse.jface.viewers.ColumnViewerToolTipSupport;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.ITreeViewerListener;
+import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TreeExpansionEvent;
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.custom.BusyIndicator;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Menu;
+import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.handlers.IHandlerService;
 import org.eclipse.ui.part.ViewPart;
 
 import com.tlcsdm.eclipse.mavenview.internal.DisplayableLabelProvider;
 import com.tlcsdm.eclipse.mavenview.internal.ProfileSelectionManager;
+import com.tlcsdm.eclipse.mavenview.internal.RefreshScheduler;
+import com.tlcsdm.eclipse.mavenview.internal.handler.FindDependencyUsagesHandler;
+import com.tlcsdm.eclipse.mavenview.internal.tree.DependenciesNode;
+import com.tlcsdm.eclipse.mavenview.internal.tree.Dependency;
+import com.tlcsdm.eclipse.mavenview.internal.tree.DependencyNode;
 import com.tlcsdm.eclipse.mavenview.internal.tree.LaunchConfigNode;
+import com.tlcsdm.eclipse.mavenview.internal.tree.LazyProjectTreeContentProvider;
 import com.tlcsdm.eclipse.mavenview.internal.tree.MavenPluginGoalNode;
+import com.tlcsdm.eclipse.mavenview.internal.tree.MavenPluginsNode;
 import com.tlcsdm.eclipse.mavenview.internal.tree.PhaseNode;
 import com.tlcsdm.eclipse.mavenview.internal.tree.PhasesNode;
+import com.tlcsdm.eclipse.mavenview.internal.tree.ProgressiveTreeExpander;
 import com.tlcsdm.eclipse.mavenview.internal.tree.ProfileNode;
+import com.tlcsdm.eclipse.mavenview.internal.tree.ProjectModelCache;
 import com.tlcsdm.eclipse.mavenview.internal.tree.ProjectNode;
 import com.tlcsdm.eclipse.mavenview.internal.tree.ProjectTreeContentProvider;
+import com.tlcsdm.eclipse.mavenview.internal.tree.TreeFilter;
 
 public class MavenView extends ViewPart {
 
@@ -40,16 +60,61 @@ public class MavenView extends ViewPart {
 	 */
 	public static final String ID = "com.tlcsdm.eclipse.mavenview.MavenView";
 
+	/**
+	 * Maximum number of projects expanded to reveal the matches of the filter.
+	 */
+	static final int MAX_EXPANDED_MATCHES = 50;
+
 	TreeViewer viewer;
+	private Text filterText;
+	private final TreeFilter filter = new TreeFilter();
+	// restored when the filter text is cleared
+	private Object[] expandedBeforeFiltering;
+	private ProgressiveTreeExpander expander;
+	private RefreshScheduler refreshScheduler;
 	private IResourceChangeListener resourceChangeListener;
+	private IMavenProjectChangedListener mavenProjectChangedListener;
+	private Consumer<IProject> modelCacheListener;
 
 	@Override
 	public void createPartControl(Composite parent) {
-		this.viewer = new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
+		GridLayoutFactory.fillDefaults().spacing(0, 0).applyTo(parent);
+		this.filterText = new Text(parent, SWT.SEARCH | SWT.ICON_SEARCH | SWT.ICON_CANCEL);
+		this.filterText.setMessage(Messages.getString("FilterMessage"));
+		this.filterText.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).create());
+		this.filterText.addModifyListener(e -> applyFilter());
+		// Enter on groupId:artifactId[:version] lists all projects declaring it
+		this.filterText.addListener(SWT.DefaultSelection, event -> {
+			final String[] coordinates = FindDependencyUsagesHandler.parseCoordinates(this.filterText.getText());
+			if (coordinates != null) {
+				FindDependencyUsagesHandler.findUsages(this.filterText.getShell(), this, coordinates);
+			}
+		});
+		this.filterText.addListener(SWT.KeyDown, event -> {
+			if (event.keyCode == SWT.ARROW_DOWN) {
+				this.viewer.getControl().setFocus();
+			}
+		});
+
+		final boolean virtual = MavenViewPreferences.isVirtualTree();
+		this.viewer = new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL | (virtual ? SWT.VIRTUAL : SWT.NONE));
+		this.viewer.getControl().setLayoutData(GridDataFactory.fillDefaults().grab(true, true).create());
 
 		this.viewer.setAutoExpandLevel(AbstractTreeViewer.NO_EXPAND);
 		this.viewer.setLabelProvider(new DisplayableLabelProvider());
-		this.viewer.setContentProvider(new ProjectTreeContentProvider());
+		// e.g. the descriptions of plugin goals
+		ColumnViewerToolTipSupport.enableFor(this.viewer);
+		// every node knows its parent and is equal to its counterpart after a
+		// refresh, so elements are found by hash instead of walking the items
+		this.viewer.setUseHashlookup(true);
+		if (virtual) {
+			// only the visible items are created
+			this.viewer.setContentProvider(new LazyProjectTreeContentProvider());
+		} else {
+			this.viewer.setContentProvider(new ProjectTreeContentProvider());
+		}
+		this.viewer.setFilters(this.filter);
+		this.expander = new ProgressiveTreeExpander(this.viewer);
 		this.viewer.addTreeListener(new ITreeViewerListener() {
 
 			@Override
@@ -72,7 +137,7 @@ public class MavenView extends ViewPart {
 		ProjectNode[] inputNodes = ProjectTreeContentProvider.fetchMavenProjects();
 		this.viewer.setInput(inputNodes);
 		if (inputNodes != null && inputNodes.length == 1) {
-			this.viewer.expandAll();
+			this.expander.expandAll(inputNodes);
 		}
 		// Add single-click listener for profile selection toggle
 		this.viewer.getTree().addListener(SWT.MouseDown, event -> {
@@ -100,6 +165,7 @@ public class MavenView extends ViewPart {
 		});
 		hookMenuToViewer();
 		hookResourceListener();
+		hookMavenProjectListener();
 		hookPreferenceListener();
 
 		getSite().setSelectionProvider(this.viewer);
@@ -107,11 +173,123 @@ public class MavenView extends ViewPart {
 
 	public void refresh() {
 		final Object[] expandedElements = this.viewer.getExpandedElements();
-		this.viewer.setInput(ProjectTreeContentProvider.fetchMavenProjects());
+		final ProjectNode[] inputNodes = ProjectTreeContentProvider.fetchMavenProjects();
+		this.filter.update(inputNodes);
+		this.viewer.setInput(inputNodes);
 		this.viewer.setExpandedElements(expandedElements);
 		this.viewer.refresh(true);
 	}
 
+	/**
+	 * Refreshes the nodes of the projects only, projects that are not displayed
+	 * are ignored.
+	 */
+	public void refresh(IProject... projects) {
+		if (this.viewer.getControl().isDisposed()) {
+			return;
+		}
+		final ProjectNode[] inputNodes = (ProjectNode[]) this.viewer.getInput();
+		if (inputNodes == null) {
+			return;
+		}
+
+		final List<ProjectNode> nodes = new ArrayList<>(projects.length);
+		for (final IProject project : projects) {
+			final ProjectNode node = findNode(inputNodes, project);
+			if (node != null) {
+				nodes.add(node);
+			}
+		}
+
+		// the models of the projects might have changed
+		this.filter.update(inputNodes);
+		this.viewer.getTree().setRedraw(false);
+		try {
+			for (final ProjectNode node : nodes) {
+				this.viewer.refresh(node, true);
+			}
+		} finally {
+			this.viewer.getTree().setRedraw(true);
+		}
+	}
+
+	/**
+	 * Selects the node of a dependency of the project, or the project itself if
+	 * the dependencies are not loaded yet. Projects that are not displayed are
+	 * ignored.
+	 */
+	public void reveal(IProject project, Dependency dependency) {
+		final ProjectNode[] inputNodes = (ProjectNode[]) this.viewer.getInput();
+		if (project == null || inputNodes == null || this.viewer.getControl().isDisposed()) {
+			return;
+		}
+		final ProjectNode projectNode = findNode(inputNodes, project);
+		if (projectNode == null) {
+			return;
+		}
+
+		// equal to the node in the tree, the viewer finds it through its parents
+		final DependencyNode node = new DependencyNode(new DependenciesNode(projectNode), dependency.groupId(),
+				dependency.artifactId(), dependency.version(), dependency.scope());
+		this.viewer.setSelection(new StructuredSelection(node), true);
+		if (this.viewer.getStructuredSelection().isEmpty()) {
+			this.viewer.setSelection(new StructuredSelection(projectNode), true);
+		}
+	}
+
+	private void applyFilter() {
+		final ProjectNode[] inputNodes = (ProjectNode[]) this.viewer.getInput();
+		if (inputNodes == null || !this.filter.setQuery(this.filterText.getText(), inputNodes)) {
+			return;
+		}
+
+		this.expander.cancel();
+		this.viewer.getTree().setRedraw(false);
+		try {
+			if (this.filter.isActive() && this.expandedBeforeFiltering == null) {
+				this.expandedBeforeFiltering = this.viewer.getExpandedElements();
+			}
+			this.viewer.refresh(false);
+			if (this.filter.isActive()) {
+				expandMatches(inputNodes);
+			} else if (this.expandedBeforeFiltering != null) {
+				this.viewer.setExpandedElements(this.expandedBeforeFiltering);
+				this.expandedBeforeFiltering = null;
+			}
+		} finally {
+			this.viewer.getTree().setRedraw(true);
+		}
+	}
+
+	/**
+	 * Expands the projects that are shown because of their children, only the
+	 * matching nodes are created because the others are filtered.
+	 */
+	private void expandMatches(ProjectNode[] inputNodes) {
+		int expanded = 0;
+		for (final ProjectNode node : inputNodes) {
+			if (expanded >= MAX_EXPANDED_MATCHES) {
+				return;
+			}
+			if (this.filter.hasMatchingChildren(node)) {
+				this.viewer.expandToLevel(node, 2);
+				if (this.filter.hasMatchingGoals(node)) {
+					this.viewer.expandToLevel(new MavenPluginsNode(node), 2);
+				}
+				expanded++;
+			}
+		}
+	}
+
+	private static ProjectNode findNode(ProjectNode[] nodes, IProject project) {
+		for (final ProjectNode node : nodes) {
+			if (node.getProjectResource().equals(project)) {
+				return node;
+			}
+		}
+		return null;
+	}
+
 	private void executeCommand() {
 		try {
 			IHandlerService handlerService = (IHandlerService) PlatformUI.getWorkbench()
@@ -130,6 +308,7 @@ public class MavenView extends ViewPart {
 	}
 
 	private void hookResourceListener() {
+		refreshScheduler = new RefreshScheduler(this, this.viewer.getControl().getDisplay());
 		resourceChangeListener = event -> {
 			if (event.getType() == IResourceChangeEvent.POST_CHANGE) {
 				handleResourceChanged(event);
@@ -141,20 +320,39 @@ public class MavenView extends ViewPart {
 	}
 
 	private void handleResourceChanged(IResourceChangeEvent event) {
-		try {
-			event.getDelta().accept(delta -> {
-				IResource resource = delta.getResource();
+		if (event.getDelta() == null) {
+			return;
+		}
+		// only the project level is of interest, changes of the Maven model are
+		// reported by m2e
+		for (final IResourceDelta delta : event.getDelta().getAffectedChildren()) {
+			if (delta.getResource() instanceof IProject && affectsProjectList(delta)) {
+				refreshScheduler.scheduleFullRefresh();
+				return;
+			}
+		}
+	}
 
-				if (resource instanceof IProject) {
-					Display.getDefault().asyncExec(() -> {
-						refresh();
-					});
-				}
-				return true;
-			});
-		} catch (CoreException e) {
-			Activator.getDefault().getLog().error("Error handling resource change", e);
+	private static boolean affectsProjectList(IResourceDelta projectDelta) {
+		if (projectDelta.getKind() != IResourceDelta.CHANGED) {
+			return true;
 		}
+		// opening, closing or changing the natures may add or remove a Maven project
+		return (projectDelta.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0;
+	}
+
+	private void hookMavenProjectListener() {
+		// the model cache drops the snapshots of these projects itself
+		mavenProjectChangedListener = (events, monitor) -> {
+			for (final MavenProjectChangedEvent event : events) {
+				refreshScheduler.scheduleRefresh(event.getSource().getProject());
+			}
+		};
+		MavenPlugin.getMavenProjectRegistry().addMavenProjectChangedListener(mavenProjectChangedListener);
+
+		// e.g. a snapshot restored from the index turned out to be outdated
+		modelCacheListener = project -> refreshScheduler.scheduleRefresh(project);
+		ProjectModelCache.addListener(modelCacheListener);
 	}
 
 	private void hookPreferenceListener() {
@@ -164,7 +362,8 @@ public class MavenView extends ViewPart {
 	IPropertyChangeListener preferenceChangeListener = new IPropertyChangeListener() {
 
 		public void propertyChange(PropertyChangeEvent event) {
-			if (MavenViewPreferences.SKIP_TESTS.equals(event.getProperty())) {
+			if (MavenViewPreferences.SKIP_TESTS.equals(event.getProperty())
+					|| MavenViewPreferences.RESOLVED_DEPENDENCIES.equals(event.getProperty())) {
 				Display.getDefault().asyncExec(() -> {
 					viewer.refresh(true);
 				});
@@ -179,19 +378,19 @@ public class MavenView extends ViewPart {
 	}
 
 	public void collapseAll() {
+		this.expander.cancel();
 		this.viewer.collapseAll();
 	}
 
+	/**
+	 * Expands all nodes in the background, level by level. Pressing Esc or
+	 * collapsing a node stops expanding.
+	 */
 	public void expandAll() {
-		BusyIndicator.showWhile(this.viewer.getControl().getDisplay(), () -> {
-			this.viewer.getTree().setRedraw(false);
-			try {
-				this.viewer.expandAll();
-				this.viewer.refresh();
-			} finally {
-				this.viewer.getTree().setRedraw(true);
-			}
-		});
+		final Object input = this.viewer.getInput();
+		if (input instanceof ProjectNode[]) {
+			this.expander.expandAll((ProjectNode[]) input);
+		}
 	}
 
 	public void expand(Object element) {
@@ -204,6 +403,18 @@ public class MavenView extends ViewPart {
 		if (resourceChangeListener != null) {
 			ResourcesPlugin.getWorkspace().removeResourceChangeListener(resourceChangeListener);
 		}
+		if (modelCacheListener != null) {
+			ProjectModelCache.removeListener(modelCacheListener);
+		}
+		if (mavenProjectChangedListener != null) {
+			MavenPlugin.getMavenProjectRegistry().removeMavenProjectChangedListener(mavenProjectChangedListener);
+		}
+		if (refreshScheduler != null) {
+			refreshScheduler.dispose();
+		}
+		if (expander != null) {
+			expander.dispose();
+		}
 		if (preferenceChangeListener != null) {
 			Activator.getDefault().getPreferenceStore().removePropertyChangeListener(preferenceChangeListener);
 		}
@@ -13,6 +13,9 @@ public final class MavenViewImages {
 	public static final String OBJ_DEPENDENCY = "icons/data.png";
 	public static final String OBJ_PLUGINS = "icons/plugins.png";
 	public static final String OBJ_PLUGIN = "icons/plugin.png";
+	public static final String OBJ_BUILD_QUEUED = "icons/incomplete_tsk.png";
+	public static final String OBJ_BUILD_RUNNING = "icons/run.png";
+	public static final String OBJ_BUILD_FINISHED = "icons/complete_tsk.png";
 
 	private MavenViewImages() {
 		// not needed
@@ -1,7 +1,7 @@
 package com.tlcsdm.eclipse.mavenview;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IProject;
@@ -18,6 +18,13 @@ public final class MavenViewPreferences {
 	public static final String ALWAYS_SELECTED_PROJECTS = "alwaysSelectedProjects";
 	public static final String NEVER_SELECTED_PROJECTS = "neverSelectedProjects";
 	public static final String SKIP_TESTS = "skipTests";
+	public static final String VIRTUAL_TREE = "virtualTree";
+	public static final String RESOLVED_DEPENDENCIES = "resolvedDependencies";
+	public static final String REACTOR_RUNS = "reactorRuns";
+	public static final String REACTOR_ALSO_MAKE = "reactorAlsoMake";
+	public static final String MAX_CONCURRENT_BUILDS = "maxConcurrentBuilds";
+	public static final String BATCH_GOALS = "batchGoals";
+	public static final String BUILD_CACHE = "buildCache";
 
 	static final String SEPARATOR = "\n";
 
@@ -59,9 +66,9 @@ public final class MavenViewPreferences {
 	}
 
 	private static IProject[] getProjects(String preferences) {
-		final List<String> projectNames = Arrays.asList(getPreferences().getString(preferences).split(SEPARATOR));
-		return Arrays.stream(InitialProjectSelection.fetchAllMavenProjects())
-				.filter(p -> projectNames.contains(p.getName())).toArray(IProject[]::new);
+		// sorted by name like the projects of the workspace root
+		return Arrays.stream(getPreferences().getString(preferences).split(SEPARATOR)).sorted().distinct()
+				.map(MavenProjectIndex::getMavenProject).filter(Objects::nonNull).toArray(IProject[]::new);
 	}
 
 	public static void setAlwaysSelectedProjects(IProject... alwaysSelectedProjects) {
@@ -85,6 +92,90 @@ public final class MavenViewPreferences {
 		setProjects(NEVER_SELECTED_PROJECTS, neverSelectedProjects);
 	}
 
+	/**
+	 * Returns true if the view should only create the visible tree items. This is
+	 * applied when the view is opened.
+	 */
+	public static boolean isVirtualTree() {
+		return getPreferences().getBoolean(VIRTUAL_TREE);
+	}
+
+	public static void setVirtualTree(boolean virtualTree) {
+		getPreferences().setValue(VIRTUAL_TREE, virtualTree);
+	}
+
+	/**
+	 * Returns true if the dependencies node should show the resolved, transitive
+	 * dependencies instead of the declared ones.
+	 */
+	public static boolean isResolvedDependencies() {
+		return getPreferences().getBoolean(RESOLVED_DEPENDENCIES);
+	}
+
+	public static void setResolvedDependencies(boolean resolvedDependencies) {
+		getPreferences().setValue(RESOLVED_DEPENDENCIES, resolvedDependencies);
+	}
+
+	/**
+	 * Returns true if the phases of several projects with the same aggregator
+	 * should be run in a single reactor build of the aggregator.
+	 */
+	public static boolean isReactorRuns() {
+		return getPreferences().getBoolean(REACTOR_RUNS);
+	}
+
+	public static void setReactorRuns(boolean reactorRuns) {
+		getPreferences().setValue(REACTOR_RUNS, reactorRuns);
+	}
+
+	/**
+	 * Returns true if a reactor build should build the projects the selected
+	 * projects depend on as well ("-am").
+	 */
+	public static boolean isReactorAlsoMake() {
+		return getPreferences().getBoolean(REACTOR_ALSO_MAKE);
+	}
+
+	public static void setReactorAlsoMake(boolean reactorAlsoMake) {
+		getPreferences().setValue(REACTOR_ALSO_MAKE, reactorAlsoMake);
+	}
+
+	/**
+	 * Returns how many Maven launches of the {@link BuildQueue} may run at the
+	 * same time.
+	 */
+	public static int getMaxConcurrentBuilds() {
+		return Math.max(1, getPreferences().getInt(MAX_CONCURRENT_BUILDS));
+	}
+
+	public static void setMaxConcurrentBuilds(int maxConcurrentBuilds) {
+		getPreferences().setValue(MAX_CONCURRENT_BUILDS, maxConcurrentBuilds);
+	}
+
+	/**
+	 * Returns true if the plugin goals and phases selected for a project should be
+	 * run by a single Maven launch instead of one launch per goal.
+	 */
+	public static boolean isBatchGoals() {
+		return getPreferences().getBoolean(BATCH_GOALS);
+	}
+
+	public static void setBatchGoals(boolean batchGoals) {
+		getPreferences().setValue(BATCH_GOALS, batchGoals);
+	}
+
+	/**
+	 * Returns true if a run should be skipped when it already succeeded for the
+	 * same inputs, see {@link BuildCache}.
+	 */
+	public static boolean isBuildCache() {
+		return getPreferences().getBoolean(BUILD_CACHE);
+	}
+
+	public static void setBuildCache(boolean buildCache) {
+		getPreferences().setValue(BUILD_CACHE, buildCache);
+	}
+
 	private MavenViewPreferences() {
 		// hide me
 	}
@@ -0,0 +1,64 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Trie over the segments of project locations. Finding the root locations, i.e.
+ * the locations that are not below another location, takes time proportional
+ * to the number of segments of all locations instead of comparing every
+ * location with every other one.
+ */
+final class ProjectPathTrie {
+
+	private static final class Node {
+		private final Map<String, Node> children = new HashMap<>(4);
+		// the location ending in this node, if any
+		private IPath location;
+	}
+
+	private final Node root = new Node();
+
+	/**
+	 * Adds the location of a project, adding the same location twice has no
+	 * effect.
+	 */
+	void add(IPath location) {
+		Node node = this.root;
+		final String device = location.getDevice();
+		if (device != null) {
+			// like IPath#isPrefixOf, which ignores the case of the device
+			node = node.children.computeIfAbsent(device.toUpperCase(Locale.ROOT), key -> new Node());
+		}
+		for (final String segment : location.segments()) {
+			node = node.children.computeIfAbsent(segment, key -> new Node());
+		}
+		node.location = location;
+	}
+
+	/**
+	 * Returns the locations that are not below another added location.
+	 */
+	Set<IPath> getRoots() {
+		final Set<IPath> result = new HashSet<>();
+		final Deque<Node> nodes = new ArrayDeque<>();
+		nodes.push(this.root);
+		while (!nodes.isEmpty()) {
+			final Node node = nodes.pop();
+			if (node.location != null) {
+				// everything below is nested in this location
+				result.add(node.location);
+			} else {
+				node.children.values().forEach(nodes::push);
+			}
+		}
+		return result;
+	}
+}
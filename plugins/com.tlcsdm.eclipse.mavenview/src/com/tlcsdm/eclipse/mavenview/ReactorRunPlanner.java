@@ -0,0 +1,233 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+
+import com.tlcsdm.eclipse.mavenview.internal.common.SecureXmlParser;
+
+/**
+ * Combines the runs of several projects into one reactor build, i.e. a single
+ * Maven launch of their aggregator with <code>-pl</code>, so that Maven starts
+ * once and orders the modules itself. Only runs with the same phases and
+ * profiles are combined, and only projects that are modules of the aggregator
+ * (directly or through nested aggregators) according to the
+ * <code>modules</code> of the pom.xml files. A module need not be below its
+ * aggregator, e.g. <code>&lt;module&gt;../core&lt;/module&gt;</code> of a flat
+ * layout.
+ */
+public final class ReactorRunPlanner {
+
+	/**
+	 * A launch of Maven in the directory of the project, which builds the modules,
+	 * i.e. the project itself or the selected projects of a reactor build.
+	 */
+	public record Run(IProject project, MavenRunConfig config, List<IProject> modules) {
+
+		Run(IProject project, MavenRunConfig config) {
+			this(project, config, List.of(project));
+		}
+	}
+
+	private static final String MODULE = "/project/modules/module";
+
+	// Modules of the pom.xml files read while planning, per directory
+	private final Map<IPath, List<String>> modules = new HashMap<>();
+
+	ReactorRunPlanner() {
+		// use plan()
+	}
+
+	/**
+	 * Returns the launches for the configurations of the projects. Projects that
+	 * cannot be combined with another one are launched on their own.
+	 */
+	public static List<Run> plan(Map<IProject, MavenRunConfig> configs) {
+		if (configs.size() < 2 || !MavenViewPreferences.isReactorRuns()) {
+			final List<Run> result = new ArrayList<>(configs.size());
+			configs.forEach((project, config) -> result.add(new Run(project, config)));
+			return result;
+		}
+		return new ReactorRunPlanner().createRuns(configs, MavenProjectIndex.getMavenProjects(),
+				MavenViewPreferences.isReactorAlsoMake(), false);
+	}
+
+	/**
+	 * Returns the launches for the configurations of the projects, which are all
+	 * launched from their outermost aggregator with <code>-pl</code>, even a
+	 * project that is the only one of its aggregator. So the projects depending on
+	 * it are built as well if the configurations
+	 * {@link MavenRunConfig#isAlsoMakeDependents() also make the dependents}.
+	 */
+	public static List<Run> planFromAggregators(Map<IProject, MavenRunConfig> configs) {
+		return new ReactorRunPlanner().createRuns(configs, MavenProjectIndex.getMavenProjects(),
+				MavenViewPreferences.isReactorAlsoMake(), true);
+	}
+
+	List<Run> createRuns(Map<IProject, MavenRunConfig> configs, IProject[] mavenProjects, boolean alsoMake,
+			boolean fromAggregator) {
+		// the outermost aggregators are tried first
+		final List<IProject> aggregators = new ArrayList<>();
+		for (final IProject project : mavenProjects) {
+			if (project.getLocation() != null) {
+				aggregators.add(project);
+			}
+		}
+		aggregators.sort(Comparator.comparingInt(project -> project.getLocation().segmentCount()));
+
+		// projects by the goals and profiles of their run, then by their aggregator
+		final Map<String, Map<IProject, List<IProject>>> groups = new LinkedHashMap<>();
+		for (final Map.Entry<IProject, MavenRunConfig> entry : configs.entrySet()) {
+			final MavenRunConfig config = entry.getValue();
+			groups.computeIfAbsent(config.toGoalString() + '|' + config.getProfilesAsString(),
+					key -> new LinkedHashMap<>())
+					.computeIfAbsent(findAggregator(entry.getKey(), aggregators), key -> new ArrayList<>())
+					.add(entry.getKey());
+		}
+
+		final List<Run> result = new ArrayList<>();
+		for (final Map<IProject, List<IProject>> projectsByAggregator : groups.values()) {
+			projectsByAggregator.forEach((aggregator, projects) -> {
+				if (projects.size() == 1 && !fromAggregator) {
+					result.add(new Run(projects.get(0), configs.get(projects.get(0))));
+					return;
+				}
+				final String[] selectors = projects.stream()
+						.map(project -> getSelector(aggregator.getLocation(), project.getLocation()))
+						.toArray(String[]::new);
+				result.add(new Run(aggregator,
+						configs.get(projects.get(0)).copy().projects(selectors).alsoMake(alsoMake),
+						List.copyOf(projects)));
+			});
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the outermost aggregator of the project, i.e. the aggregator that is
+	 * no module of another one, or the project itself.
+	 */
+	private IProject findAggregator(IProject project, List<IProject> aggregators) {
+		if (project.getLocation() == null) {
+			return project;
+		}
+		IProject result = project;
+		final Set<IProject> visited = new HashSet<>();
+		visited.add(project);
+		boolean found = true;
+		while (found) {
+			found = false;
+			for (final IProject aggregator : aggregators) {
+				if (!visited.contains(aggregator) && isModule(aggregator.getLocation(), result.getLocation())) {
+					// look for an aggregator of this aggregator
+					result = aggregator;
+					visited.add(aggregator);
+					found = true;
+					break;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns true if the directory is the aggregator directory itself or one of
+	 * its modules, directly or through nested aggregators.
+	 */
+	boolean isModule(IPath aggregator, IPath directory) {
+		return isModule(aggregator, directory, new HashSet<>());
+	}
+
+	private boolean isModule(IPath aggregator, IPath directory, Set<IPath> visited) {
+		if (aggregator.equals(directory)) {
+			return true;
+		}
+		if (!visited.add(aggregator)) {
+			return false;
+		}
+		for (final String module : getModules(aggregator)) {
+			// append resolves "..", modules may be siblings of their aggregator
+			IPath modulePath = aggregator.append(module);
+			if (module.endsWith(".xml")) {
+				// the module is given by its pom.xml
+				modulePath = modulePath.removeLastSegments(1);
+			}
+			if (isModule(modulePath, directory, visited)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private List<String> getModules(IPath directory) {
+		return this.modules.computeIfAbsent(directory, key -> {
+			try (InputStream in = Files.newInputStream(key.append(MavenRunner.POM_FILE_NAME).toPath())) {
+				return readModules(in);
+			} catch (NoSuchFileException e) {
+				return Collections.emptyList();
+			} catch (IOException | XMLStreamException e) {
+				Activator.getDefault().getLog().warn("Failed to read the modules of " + key, e);
+				return Collections.emptyList();
+			}
+		});
+	}
+
+	/**
+	 * Reads the modules of a pom.xml, modules of profiles are ignored. The stream
+	 * is not closed.
+	 */
+	static List<String> readModules(InputStream pomContents) throws XMLStreamException {
+		final XMLStreamReader reader = SecureXmlParser.getSecureXmlInputFactory().createXMLStreamReader(pomContents);
+		try {
+			final List<String> result = new ArrayList<>();
+			final StringBuilder path = new StringBuilder();
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					path.append('/').append(reader.getLocalName());
+					if (MODULE.contentEquals(path)) {
+						result.add(reader.getElementText().trim());
+						path.setLength(path.lastIndexOf("/"));
+					}
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					path.setLength(path.lastIndexOf("/"));
+					break;
+				default:
+					break;
+				}
+			}
+			return result;
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Returns the <code>-pl</code> selector of the project in the directory, i.e.
+	 * its path relative to the aggregator.
+	 */
+	static String getSelector(IPath aggregator, IPath directory) {
+		if (aggregator.equals(directory)) {
+			return ".";
+		}
+		return directory.makeRelativeTo(aggregator).toPortableString();
+	}
+}
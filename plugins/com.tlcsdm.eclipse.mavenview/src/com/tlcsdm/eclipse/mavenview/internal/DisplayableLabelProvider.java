@@ -1,141 +1,204 @@
 package com.tlcsdm.eclipse.mavenview.internal;
 
+import java.util.Arrays;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.viewers.StyledCellLabelProvider;
 import org.eclipse.jface.viewers.ViewerCell;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
-import org.eclipse.swt.graphics.FontData;
-import org.eclipse.swt.graphics.TextStyle;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Listener;
 
 import com.tlcsdm.eclipse.mavenview.Activator;
 import com.tlcsdm.eclipse.mavenview.Displayable;
 import com.tlcsdm.eclipse.mavenview.MavenViewPreferences;
 import com.tlcsdm.eclipse.mavenview.Phase;
 import com.tlcsdm.eclipse.mavenview.internal.tree.DependencyNode;
+import com.tlcsdm.eclipse.mavenview.internal.tree.MavenPluginGoalNode;
 import com.tlcsdm.eclipse.mavenview.internal.tree.MavenPluginNode;
 import com.tlcsdm.eclipse.mavenview.internal.tree.PhaseNode;
 import com.tlcsdm.eclipse.mavenview.internal.tree.ProfileNode;
+import com.tlcsdm.eclipse.mavenview.internal.tree.ResolvedDependencyNode;
 
+/**
+ * Label provider of the view. Painting a cell allocates nothing but its text:
+ * the style ranges are built once per display (and again if the system colors
+ * change) and shared by all cells, which is possible because they are never
+ * modified afterwards.
+ */
 public class DisplayableLabelProvider extends StyledCellLabelProvider {
 
 	private static final String TEST_SCOPE_SUFFIX = " (test)";
 
-	private final Font grayFont;
+	// TextLayout clips a style range to the text, so a range can cover
+	// everything from its start to the end of any text
+	private static final int TO_THE_END = Integer.MAX_VALUE / 2;
 
-	public DisplayableLabelProvider() {
-		FontData[] fontData = getDefaultFont().getFontData();
-		for (FontData data : fontData) {
-			data.setStyle(SWT.ITALIC); // 设置斜体
+	private static final StyleRange[] NO_STYLE_RANGES = new StyleRange[0];
+
+	private final IPreferenceStore preferenceStore = Activator.getDefault().getPreferenceStore();
+	private volatile boolean skipTests = preferenceStore.getBoolean(MavenViewPreferences.SKIP_TESTS);
+	private final IPropertyChangeListener skipTestsListener = event -> {
+		if (MavenViewPreferences.SKIP_TESTS.equals(event.getProperty())) {
+			this.skipTests = this.preferenceStore.getBoolean(MavenViewPreferences.SKIP_TESTS);
 		}
-		grayFont = new Font(null, fontData); // 灰色字体
+	};
+
+	// Style templates, built by ensureStyles()
+	private Display display;
+	private final Listener settingsListener = event -> this.grayItalicRanges = null;
+	private StyleRange[] grayItalicRanges;
+	private StyleRange[] blueBoldRanges;
+	// Gray from the index to the end of the text, created when needed
+	private StyleRange[][] graySuffixRanges;
+
+	public DisplayableLabelProvider() {
+		this.preferenceStore.addPropertyChangeListener(this.skipTestsListener);
 	}
 
 	@Override
 	public void update(ViewerCell cell) {
+		ensureStyles(cell.getControl().getDisplay());
+
 		Object obj = cell.getElement(); // 当前对象
 		if (obj instanceof PhaseNode) {
 			PhaseNode phaseNode = (PhaseNode) obj;
-			if (phaseNode.getDisplayName().equals(Phase.TEST.getDisplayName())) {
-				boolean skipTests = Activator.getDefault().getPreferenceStore()
-						.getBoolean(MavenViewPreferences.SKIP_TESTS);
-				if (skipTests) {
-					TextStyle textStyle = new TextStyle(cell.getFont(), null, null);
-					textStyle.foreground = cell.getControl().getDisplay().getSystemColor(SWT.COLOR_GRAY);
-					StyleRange styleRange = new StyleRange(textStyle);
-					styleRange.start = 0;
-					styleRange.length = cell.getText().length();
-					styleRange.fontStyle = SWT.ITALIC;
-					cell.setText(phaseNode.getDisplayName());
-					cell.setStyleRanges(new StyleRange[] { styleRange });
-				} else {
-					cell.setText(phaseNode.getDisplayName());
-					cell.setFont(getDefaultFont());
-					cell.setStyleRanges(new StyleRange[] {});
-				}
+			cell.setText(phaseNode.getDisplayName());
+			if (phaseNode.getPhase() == Phase.TEST && this.skipTests) {
+				cell.setStyleRanges(this.grayItalicRanges);
 			} else {
-				cell.setText(phaseNode.getDisplayName());
 				cell.setFont(getDefaultFont());
+				cell.setStyleRanges(NO_STYLE_RANGES);
 			}
 			cell.setImage(phaseNode.getImage());
 		} else if (obj instanceof ProfileNode) {
 			ProfileNode profileNode = (ProfileNode) obj;
 			// Profile nodes now use different icons for checked/unchecked state
 			// No need for text prefix - the icon shows the state
-			String displayText = profileNode.getDisplayName();
-			
+			cell.setText(profileNode.getDisplayName());
 			if (profileNode.isSelected()) {
 				// Selected profiles: bold text with blue color
-				TextStyle textStyle = new TextStyle(cell.getFont(), null, null);
-				textStyle.foreground = cell.getControl().getDisplay().getSystemColor(SWT.COLOR_BLUE);
-				StyleRange styleRange = new StyleRange(textStyle);
-				styleRange.start = 0;
-				styleRange.length = displayText.length();
-				styleRange.fontStyle = SWT.BOLD;
-				cell.setText(displayText);
-				cell.setStyleRanges(new StyleRange[] { styleRange });
+				cell.setStyleRanges(this.blueBoldRanges);
 			} else {
 				// Unselected profiles: normal text, aligned with other child nodes
-				cell.setText(displayText);
 				cell.setFont(getDefaultFont());
-				cell.setStyleRanges(new StyleRange[] {});
+				cell.setStyleRanges(NO_STYLE_RANGES);
 			}
 			cell.setImage(profileNode.getImage());
 		} else if (obj instanceof DependencyNode) {
 			DependencyNode dependencyNode = (DependencyNode) obj;
 			String displayName = dependencyNode.getDisplayName();
-			
 			if (dependencyNode.isTestScope()) {
 				// Test scope dependencies: show with gray "(test)" suffix
-				String fullText = displayName + TEST_SCOPE_SUFFIX;
-				cell.setText(fullText);
-				
-				// Style the "(test)" suffix in gray
-				TextStyle grayStyle = new TextStyle(cell.getFont(), null, null);
-				grayStyle.foreground = cell.getControl().getDisplay().getSystemColor(SWT.COLOR_GRAY);
-				StyleRange grayRange = new StyleRange(grayStyle);
-				grayRange.start = displayName.length();
-				grayRange.length = TEST_SCOPE_SUFFIX.length();
-				cell.setStyleRanges(new StyleRange[] { grayRange });
+				cell.setText(displayName + TEST_SCOPE_SUFFIX);
+				cell.setStyleRanges(getGraySuffixRanges(displayName.length()));
 			} else {
 				cell.setText(displayName);
 				cell.setFont(getDefaultFont());
-				cell.setStyleRanges(new StyleRange[] {});
+				cell.setStyleRanges(NO_STYLE_RANGES);
 			}
 			cell.setImage(dependencyNode.getImage());
+		} else if (obj instanceof ResolvedDependencyNode) {
+			// Style the scope and markers in gray
+			ResolvedDependencyNode dependencyNode = (ResolvedDependencyNode) obj;
+			String displayName = dependencyNode.getDisplayName();
+			cell.setText(displayName + dependencyNode.getDetails());
+			cell.setStyleRanges(getGraySuffixRanges(displayName.length()));
+			cell.setImage(dependencyNode.getImage());
+		} else if (obj instanceof MavenPluginGoalNode) {
+			MavenPluginGoalNode goalNode = (MavenPluginGoalNode) obj;
+			String displayName = goalNode.getDisplayName();
+			if (goalNode.getPhase() != null) {
+				// Style the default phase in gray
+				cell.setText(displayName + " (" + goalNode.getPhase() + ")");
+				cell.setStyleRanges(getGraySuffixRanges(displayName.length()));
+			} else {
+				cell.setText(displayName);
+				cell.setFont(getDefaultFont());
+				cell.setStyleRanges(NO_STYLE_RANGES);
+			}
+			cell.setImage(goalNode.getImage());
 		} else if (obj instanceof MavenPluginNode) {
+			// Style the coordinates suffix in gray
 			MavenPluginNode pluginNode = (MavenPluginNode) obj;
 			String displayName = pluginNode.getDisplayName();
-			String coordinates = " " + pluginNode.getCoordinates();
-			String fullText = displayName + coordinates;
-			cell.setText(fullText);
-			
-			// Style the coordinates suffix in gray
-			TextStyle grayStyle = new TextStyle(cell.getFont(), null, null);
-			grayStyle.foreground = cell.getControl().getDisplay().getSystemColor(SWT.COLOR_GRAY);
-			StyleRange grayRange = new StyleRange(grayStyle);
-			grayRange.start = displayName.length();
-			grayRange.length = coordinates.length();
-			cell.setStyleRanges(new StyleRange[] { grayRange });
+			cell.setText(displayName + " " + pluginNode.getCoordinates());
+			cell.setStyleRanges(getGraySuffixRanges(displayName.length()));
 			cell.setImage(pluginNode.getImage());
 		} else if (obj instanceof Displayable) {
 			Displayable displayable = (Displayable) obj;
 			cell.setText(displayable.getDisplayName());
 			cell.setFont(getDefaultFont());
+			cell.setStyleRanges(NO_STYLE_RANGES);
 			cell.setImage(displayable.getImage());
 		}
 		super.update(cell);
 	}
 
+	@Override
+	public String getToolTipText(Object element) {
+		if (element instanceof MavenPluginGoalNode) {
+			return ((MavenPluginGoalNode) element).getDescription();
+		}
+		return null;
+	}
+
+	private void ensureStyles(Display cellDisplay) {
+		if (this.display != cellDisplay) {
+			if (this.display != null && !this.display.isDisposed()) {
+				this.display.removeListener(SWT.Settings, this.settingsListener);
+			}
+			this.display = cellDisplay;
+			this.display.addListener(SWT.Settings, this.settingsListener);
+			this.grayItalicRanges = null;
+		}
+		if (this.grayItalicRanges != null) {
+			return;
+		}
+
+		final Color gray = cellDisplay.getSystemColor(SWT.COLOR_GRAY);
+		this.grayItalicRanges = new StyleRange[] { createStyleRange(0, gray, SWT.ITALIC) };
+		this.blueBoldRanges = new StyleRange[] {
+				createStyleRange(0, cellDisplay.getSystemColor(SWT.COLOR_BLUE), SWT.BOLD) };
+		this.graySuffixRanges = new StyleRange[64][];
+	}
+
+	private StyleRange[] getGraySuffixRanges(int start) {
+		if (start >= this.graySuffixRanges.length) {
+			this.graySuffixRanges = Arrays.copyOf(this.graySuffixRanges,
+					Math.max(start + 1, 2 * this.graySuffixRanges.length));
+		}
+		StyleRange[] result = this.graySuffixRanges[start];
+		if (result == null) {
+			result = new StyleRange[] {
+					createStyleRange(start, this.display.getSystemColor(SWT.COLOR_GRAY), SWT.NORMAL) };
+			this.graySuffixRanges[start] = result;
+		}
+		return result;
+	}
+
+	private static StyleRange createStyleRange(int start, Color foreground, int fontStyle) {
+		final StyleRange result = new StyleRange();
+		result.start = start;
+		result.length = TO_THE_END;
+		result.foreground = foreground;
+		result.fontStyle = fontStyle;
+		return result;
+	}
+
 	private Font getDefaultFont() {
 		return Display.getDefault().getSystemFont();
 	}
 
 	@Override
 	public void dispose() {
-		if (grayFont != null && !grayFont.isDisposed()) {
-			grayFont.dispose();
+		this.preferenceStore.removePropertyChangeListener(this.skipTestsListener);
+		if (this.display != null && !this.display.isDisposed()) {
+			this.display.removeListener(SWT.Settings, this.settingsListener);
 		}
 		super.dispose();
 	}
@@ -1,9 +1,9 @@
 package com.tlcsdm.eclipse.mavenview.internal;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
@@ -20,8 +20,9 @@ public class ProfileSelectionManager {
 
 	private static final String PROFILES_KEY_PREFIX = "selectedProfiles.";
 
-	// In-memory cache of profile selections per project
-	private static final Map<String, List<String>> profileSelections = new HashMap<>();
+	// In-memory cache of profile selections per project, tree children are also
+	// computed in background jobs
+	private static final Map<String, List<String>> profileSelections = new ConcurrentHashMap<>();
 
 	/**
 	 * Saves the selection state of a profile for a project.
@@ -0,0 +1,117 @@
+package com.tlcsdm.eclipse.mavenview.internal;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.progress.UIJob;
+
+import com.tlcsdm.eclipse.mavenview.MavenView;
+
+/**
+ * Collects refresh requests for the {@link MavenView} and applies them at most
+ * once per {@link #DELAY debounce window}. Requests for single projects are
+ * merged, a full refresh replaces all pending project refreshes.
+ * <p>
+ * The methods to request a refresh may be called from any thread.
+ * </p>
+ */
+public class RefreshScheduler {
+
+	/**
+	 * Milliseconds to wait for further requests before the view is refreshed.
+	 */
+	public static final long DELAY = 300;
+
+	private final MavenView mavenView;
+	private final RefreshJob job;
+
+	// guarded by this
+	private final Set<IProject> pendingProjects = new LinkedHashSet<>();
+	private boolean fullRefreshPending;
+	private boolean disposed;
+
+	public RefreshScheduler(MavenView mavenView, Display display) {
+		this.mavenView = mavenView;
+		this.job = new RefreshJob(display);
+	}
+
+	/**
+	 * Schedules a refresh of the node of the project.
+	 */
+	public void scheduleRefresh(IProject project) {
+		synchronized (this) {
+			if (this.disposed || this.fullRefreshPending || !this.pendingProjects.add(project)) {
+				return;
+			}
+		}
+		schedule();
+	}
+
+	/**
+	 * Schedules a refresh of the whole view, e.g. because projects were added or
+	 * removed.
+	 */
+	public void scheduleFullRefresh() {
+		synchronized (this) {
+			if (this.disposed || this.fullRefreshPending) {
+				return;
+			}
+			this.fullRefreshPending = true;
+			this.pendingProjects.clear();
+		}
+		schedule();
+	}
+
+	/**
+	 * Drops all pending requests.
+	 */
+	public void dispose() {
+		synchronized (this) {
+			this.disposed = true;
+			this.fullRefreshPending = false;
+			this.pendingProjects.clear();
+		}
+		this.job.cancel();
+	}
+
+	private void schedule() {
+		// a sleeping job would be postponed by scheduling it again, so that a steady
+		// stream of changes would never refresh the view
+		if (this.job.getState() != Job.SLEEPING) {
+			this.job.schedule(DELAY);
+		}
+	}
+
+	private class RefreshJob extends UIJob {
+
+		RefreshJob(Display display) {
+			super(display, Messages.getString("RefreshMavenView"));
+			setSystem(true);
+		}
+
+		@Override
+		public IStatus runInUIThread(IProgressMonitor monitor) {
+			final boolean fullRefresh;
+			final IProject[] projects;
+			synchronized (RefreshScheduler.this) {
+				fullRefresh = RefreshScheduler.this.fullRefreshPending;
+				projects = RefreshScheduler.this.pendingProjects.toArray(new IProject[0]);
+				RefreshScheduler.this.fullRefreshPending = false;
+				RefreshScheduler.this.pendingProjects.clear();
+			}
+
+			if (fullRefresh) {
+				RefreshScheduler.this.mavenView.refresh();
+			} else if (projects.length > 0) {
+				RefreshScheduler.this.mavenView.refresh(projects);
+			}
+			return Status.OK_STATUS;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.tlcsdm.eclipse.mavenview.internal.handler;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+import com.tlcsdm.eclipse.mavenview.BuildQueue;
+import com.tlcsdm.eclipse.mavenview.BuildScheduler;
+import com.tlcsdm.eclipse.mavenview.DirtyProjectTracker;
+import com.tlcsdm.eclipse.mavenview.MavenProjectIndex;
+import com.tlcsdm.eclipse.mavenview.MavenRunConfig;
+import com.tlcsdm.eclipse.mavenview.Phase;
+import com.tlcsdm.eclipse.mavenview.ReactorRunPlanner;
+import com.tlcsdm.eclipse.mavenview.internal.Messages;
+import com.tlcsdm.eclipse.mavenview.internal.ProfileSelectionManager;
+import com.tlcsdm.eclipse.mavenview.internal.tree.PhaseNode;
+
+/**
+ * Runs the selected phases (or <code>install</code>) for the projects that
+ * changed since their last successful build and the projects depending on
+ * them, i.e. with <code>-pl &lt;changed projects&gt; -amd</code> from their
+ * aggregator.
+ */
+public class BuildChangedHandler extends AbstractHandler {
+
+	@Override
+	public Object execute(ExecutionEvent event) throws ExecutionException {
+		final Shell shell = HandlerUtil.getActiveShell(event);
+		final List<IProject> dirtyProjects = DirtyProjectTracker
+				.getDirtyProjects(MavenProjectIndex.getMavenProjects());
+		if (dirtyProjects.isEmpty()) {
+			MessageDialog.openInformation(shell, Messages.getString("BuildChangedTitle"),
+					Messages.getString("NoChangedProjects"));
+			return null;
+		}
+
+		final Phase[] phases = getSelectedPhases(HandlerUtil.getCurrentSelection(event));
+		final Map<IProject, MavenRunConfig> projectConfigs = new LinkedHashMap<>();
+		for (final IProject project : dirtyProjects) {
+			final MavenRunConfig projectConfig = new MavenRunConfig().phases(phases).alsoMakeDependents(true);
+			final String[] selectedProfiles = ProfileSelectionManager.getSelectedProfiles(project);
+			if (selectedProfiles != null && selectedProfiles.length > 0) {
+				projectConfig.setProfiles(selectedProfiles);
+			}
+			projectConfigs.put(project, projectConfig);
+		}
+
+		final Display display = shell.getDisplay();
+		BuildScheduler.schedule(ReactorRunPlanner.planFromAggregators(projectConfigs), BuildQueue.Priority.BULK,
+				e -> display.asyncExec(() -> MessageDialog.openError(shell.isDisposed() ? null : shell,
+						Messages.getString("ErrorWhileRunningMaven"), e.getLocalizedMessage())));
+		return null;
+	}
+
+	private static Phase[] getSelectedPhases(ISelection selection) {
+		final Phase[] result = selection instanceof IStructuredSelection
+				? Arrays.stream(((IStructuredSelection) selection).toArray()).filter(s -> s instanceof PhaseNode)
+						.map(s -> ((PhaseNode) s).getPhase()).distinct().toArray(Phase[]::new)
+				: new Phase[0];
+		return result.length > 0 ? result : new Phase[] { Phase.INSTALL };
+	}
+}
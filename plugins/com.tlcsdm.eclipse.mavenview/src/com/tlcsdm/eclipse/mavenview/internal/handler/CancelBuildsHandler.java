@@ -0,0 +1,27 @@
+package com.tlcsdm.eclipse.mavenview.internal.handler;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+import com.tlcsdm.eclipse.mavenview.BuildQueue;
+
+public class CancelBuildsHandler extends AbstractHandler {
+
+	@Override
+	public Object execute(ExecutionEvent event) throws ExecutionException {
+		final ISelection selection = HandlerUtil.getCurrentSelection(event);
+		if (selection instanceof IStructuredSelection) {
+			for (final Object element : ((IStructuredSelection) selection).toArray()) {
+				if (element instanceof BuildQueue.Build) {
+					BuildQueue.getDefault().cancel((BuildQueue.Build) element);
+				}
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.tlcsdm.eclipse.mavenview.internal.handler;
+
+import java.text.MessageFormat;
+import java.util.List;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.window.Window;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.dialogs.ListDialog;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+import com.tlcsdm.eclipse.mavenview.MavenProjectIndex;
+import com.tlcsdm.eclipse.mavenview.MavenView;
+import com.tlcsdm.eclipse.mavenview.internal.Messages;
+import com.tlcsdm.eclipse.mavenview.internal.tree.Dependency;
+import com.tlcsdm.eclipse.mavenview.internal.tree.DependencyNode;
+import com.tlcsdm.eclipse.mavenview.internal.tree.DependencyUsageIndex;
+
+/**
+ * Lists the projects that declare the selected dependency. The filter box of
+ * the {@link MavenView} does the same for a dependency entered as
+ * <code>groupId:artifactId[:version]</code>.
+ */
+public class FindDependencyUsagesHandler extends AbstractHandler {
+
+	@Override
+	public Object execute(ExecutionEvent event) throws ExecutionException {
+		final ISelection selection = HandlerUtil.getCurrentSelection(event);
+		if (selection instanceof IStructuredSelection
+				&& ((IStructuredSelection) selection).getFirstElement() instanceof DependencyNode) {
+			final DependencyNode node = (DependencyNode) ((IStructuredSelection) selection).getFirstElement();
+			// all versions, mismatching versions are what one is usually looking for
+			findUsages(HandlerUtil.getActiveShell(event), RefreshHandler.findMavenView(event),
+					new String[] { node.getGroupId(), node.getArtifactId() });
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the coordinates of a text of the form
+	 * <code>groupId:artifactId[:version]</code>, or null if the text has another
+	 * form.
+	 */
+	public static String[] parseCoordinates(String text) {
+		final String[] coordinates = text.trim().split(":");
+		if (coordinates.length < 2 || coordinates.length > 3 || coordinates[0].isEmpty()
+				|| coordinates[1].isEmpty() || text.trim().contains(" ")) {
+			return null;
+		}
+		return coordinates;
+	}
+
+	/**
+	 * Lists the projects that declare the dependency in the background and shows
+	 * the chosen one in the view.
+	 */
+	public static void findUsages(Shell shell, MavenView mavenView, String[] coordinates) {
+		final String groupId = coordinates[0];
+		final String artifactId = coordinates[1];
+		final String version = coordinates.length > 2 ? coordinates[2] : null;
+		final String query = String.join(":", coordinates);
+
+		final Job job = Job.create(MessageFormat.format(Messages.getString("FindDependencyUsagesJob"), query),
+				monitor -> {
+					DependencyUsageIndex.update(MavenProjectIndex.getMavenProjects(), monitor);
+					if (monitor.isCanceled()) {
+						return;
+					}
+					final List<DependencyUsageIndex.Usage> usages = DependencyUsageIndex.findUsages(groupId,
+							artifactId, version);
+					shell.getDisplay().asyncExec(() -> showUsages(shell, mavenView, query, usages));
+				});
+		job.setUser(true);
+		job.schedule();
+	}
+
+	private static void showUsages(Shell shell, MavenView mavenView, String query,
+			List<DependencyUsageIndex.Usage> usages) {
+		if (shell.isDisposed()) {
+			return;
+		}
+		final String title = MessageFormat.format(Messages.getString("DependencyUsagesTitle"), query);
+		if (usages.isEmpty()) {
+			MessageDialog.openInformation(shell, title, Messages.getString("NoDependencyUsages"));
+			return;
+		}
+
+		final ListDialog dialog = new ListDialog(shell);
+		dialog.setTitle(title);
+		dialog.setMessage(MessageFormat.format(Messages.getString("DependencyUsagesMessage"), usages.size()));
+		dialog.setContentProvider(ArrayContentProvider.getInstance());
+		dialog.setLabelProvider(new LabelProvider() {
+			@Override
+			public String getText(Object element) {
+				final DependencyUsageIndex.Usage usage = (DependencyUsageIndex.Usage) element;
+				final Dependency dependency = usage.dependency();
+				final String text = usage.projectName() + " - " + dependency.version();
+				return dependency.scope() != null ? text + " (" + dependency.scope() + ")" : text;
+			}
+		});
+		dialog.setInput(usages);
+		if (dialog.open() != Window.OK) {
+			return;
+		}
+
+		final Object[] result = dialog.getResult();
+		if (result != null && result.length > 0) {
+			final DependencyUsageIndex.Usage usage = (DependencyUsageIndex.Usage) result[0];
+			mavenView.reveal(MavenProjectIndex.getMavenProject(usage.projectName()), usage.dependency());
+		}
+	}
+}
@@ -8,6 +8,7 @@ import org.eclipse.ui.IWorkbenchPart;
 import org.eclipse.ui.handlers.HandlerUtil;
 
 import com.tlcsdm.eclipse.mavenview.MavenView;
+import com.tlcsdm.eclipse.mavenview.internal.tree.ProjectModelCache;
 
 public class RefreshHandler extends AbstractHandler {
 
@@ -15,6 +16,8 @@ public class RefreshHandler extends AbstractHandler {
 	public Object execute(ExecutionEvent event) throws ExecutionException {
 		final MavenView mavenView = findMavenView(event);
 		if (mavenView != null) {
+			// an explicit refresh should re-read the Maven models as well
+			ProjectModelCache.invalidateAll();
 			mavenView.refresh();
 		}
 		return null;
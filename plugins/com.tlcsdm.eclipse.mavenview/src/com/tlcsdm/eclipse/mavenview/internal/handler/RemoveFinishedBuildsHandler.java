@@ -0,0 +1,17 @@
+package com.tlcsdm.eclipse.mavenview.internal.handler;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+
+import com.tlcsdm.eclipse.mavenview.BuildQueue;
+
+public class RemoveFinishedBuildsHandler extends AbstractHandler {
+
+	@Override
+	public Object execute(ExecutionEvent event) throws ExecutionException {
+		BuildQueue.getDefault().removeFinished();
+		return null;
+	}
+
+}
@@ -1,26 +1,33 @@
 package com.tlcsdm.eclipse.mavenview.internal.handler;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.resources.IProject;
-import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.handlers.HandlerUtil;
 
+import com.tlcsdm.eclipse.mavenview.BuildQueue;
+import com.tlcsdm.eclipse.mavenview.BuildScheduler;
 import com.tlcsdm.eclipse.mavenview.MavenRunConfig;
 import com.tlcsdm.eclipse.mavenview.MavenRunner;
 import com.tlcsdm.eclipse.mavenview.MavenRunnerException;
+import com.tlcsdm.eclipse.mavenview.MavenViewPreferences;
 import com.tlcsdm.eclipse.mavenview.Phase;
+import com.tlcsdm.eclipse.mavenview.ReactorRunPlanner;
 import com.tlcsdm.eclipse.mavenview.internal.Messages;
 import com.tlcsdm.eclipse.mavenview.internal.ProfileSelectionManager;
 import com.tlcsdm.eclipse.mavenview.internal.tree.LaunchConfigNode;
@@ -51,54 +58,86 @@ public class RunMavenPhasesHandler extends AbstractHandler {
 			MessageDialog.openError(activeShell, Messages.getString("SelectPhasesTitle"),
 					Messages.getString("SelectPhases"));
 		} else {
-			runMavenPhases(activeShell, selectedPhaseNodes);
-			runLaunchConfigs(selectedLaunchConfigNodes);
-			runPluginGoals(activeShell, selectedPluginGoalNodes);
+			// the goals of a project are added to the Maven launch of its phases
+			final boolean batchGoals = MavenViewPreferences.isBatchGoals();
+			final Map<IProject, MavenRunConfig> projectConfigs = createProjectConfigs(selectedPhaseNodes,
+					batchGoals ? selectedPluginGoalNodes : new MavenPluginGoalNode[0]);
+
+			// a single run the user waits for is started before the runs of many projects
+			final long launches = projectConfigs.size() + selectedLaunchConfigNodes.length
+					+ (batchGoals ? 0 : selectedPluginGoalNodes.length);
+			final BuildQueue.Priority priority = launches > 1 ? BuildQueue.Priority.BULK
+					: BuildQueue.Priority.INTERACTIVE;
+			runMavenPhases(activeShell, projectConfigs, priority);
+			runLaunchConfigs(selectedLaunchConfigNodes, priority);
+			if (!batchGoals) {
+				runPluginGoals(activeShell, selectedPluginGoalNodes, priority);
+			}
 		}
 		return null;
 	}
 
-	private static void runMavenPhases(Shell shell, PhaseNode[] phaseNodes) {
-		final Map<IProject, List<PhaseNode>> projects = Arrays.stream(phaseNodes)
-				.collect(Collectors.groupingBy(PhaseNode::getProject));
+	/**
+	 * Returns the run configurations of the projects with the selected phases and
+	 * plugin goals, goals are run after the phases in the order of the selection.
+	 */
+	private static Map<IProject, MavenRunConfig> createProjectConfigs(PhaseNode[] phaseNodes,
+			MavenPluginGoalNode[] pluginGoalNodes) {
+		final Map<IProject, List<PhaseNode>> phases = Arrays.stream(phaseNodes)
+				.collect(Collectors.groupingBy(PhaseNode::getProject, LinkedHashMap::new, Collectors.toList()));
+		final Map<IProject, List<MavenPluginGoalNode>> goals = Arrays.stream(pluginGoalNodes).collect(
+				Collectors.groupingBy(MavenPluginGoalNode::getProject, LinkedHashMap::new, Collectors.toList()));
+		final Set<IProject> projects = new LinkedHashSet<>(phases.keySet());
+		projects.addAll(goals.keySet());
 
 		final MavenRunConfig config = new MavenRunConfig();
+		final Map<IProject, MavenRunConfig> projectConfigs = new LinkedHashMap<>();
 
-		for (final Entry<IProject, List<PhaseNode>> project : projects.entrySet()) {
-			try {
-				final MavenRunConfig projectConfig = config.copy();
-				projectConfig.setPhases(project.getValue().stream().map(PhaseNode::getPhase).toArray(Phase[]::new));
-				
-				// Apply selected profiles from ProfileSelectionManager
-				final String[] selectedProfiles = ProfileSelectionManager.getSelectedProfiles(project.getKey());
-				if (selectedProfiles != null && selectedProfiles.length > 0) {
-					projectConfig.setProfiles(selectedProfiles);
-				}
+		for (final IProject project : projects) {
+			final MavenRunConfig projectConfig = config.copy();
+			projectConfig.setPhases(phases.getOrDefault(project, List.of()).stream().map(PhaseNode::getPhase)
+					.toArray(Phase[]::new));
+			projectConfig.setGoals(goals.getOrDefault(project, List.of()).stream()
+					.map(MavenPluginGoalNode::getGoalCommand).toArray(String[]::new));
 
-				final MavenRunner runner = new MavenRunner();
-				runner.runForProject(project.getKey(), projectConfig);
-			} catch (final MavenRunnerException e) {
-				MessageDialog.openError(shell, Messages.getString("ErrorWhileRunningMaven"), e.getLocalizedMessage());
+			// Apply selected profiles from ProfileSelectionManager
+			final String[] selectedProfiles = ProfileSelectionManager.getSelectedProfiles(project);
+			if (selectedProfiles != null && selectedProfiles.length > 0) {
+				projectConfig.setProfiles(selectedProfiles);
 			}
+			projectConfigs.put(project, projectConfig);
 		}
+		return projectConfigs;
+	}
+
+	private static void runMavenPhases(Shell shell, Map<IProject, MavenRunConfig> projectConfigs,
+			BuildQueue.Priority priority) {
+		// projects of the same aggregator are built by one Maven launch, the
+		// launches are started after the launches of the projects they depend on
+		final Display display = shell.getDisplay();
+		BuildScheduler.schedule(ReactorRunPlanner.plan(projectConfigs), priority,
+				e -> display.asyncExec(() -> MessageDialog.openError(shell.isDisposed() ? null : shell,
+						Messages.getString("ErrorWhileRunningMaven"), e.getLocalizedMessage())));
 	}
 
-	private static void runLaunchConfigs(LaunchConfigNode[] launchConfigNodes) {
+	private static void runLaunchConfigs(LaunchConfigNode[] launchConfigNodes, BuildQueue.Priority priority) {
 		for (final LaunchConfigNode launchConfigNode : launchConfigNodes) {
-			DebugUITools.launch(launchConfigNode.getLaunchConfig(), "run");
+			BuildQueue.getDefault().submit(launchConfigNode.getLaunchConfig(),
+					launchConfigNode.getLaunchConfig().getName(), priority, List.of(launchConfigNode.getProject()));
 		}
 	}
 
-	private static void runPluginGoals(Shell shell, MavenPluginGoalNode[] pluginGoalNodes) {
-		final Map<IProject, List<MavenPluginGoalNode>> projects = Arrays.stream(pluginGoalNodes)
-				.collect(Collectors.groupingBy(MavenPluginGoalNode::getProject));
+	private static void runPluginGoals(Shell shell, MavenPluginGoalNode[] pluginGoalNodes,
+			BuildQueue.Priority priority) {
+		final Map<IProject, List<MavenPluginGoalNode>> projects = Arrays.stream(pluginGoalNodes).collect(
+				Collectors.groupingBy(MavenPluginGoalNode::getProject, LinkedHashMap::new, Collectors.toList()));
 
 		final MavenRunner runner = new MavenRunner();
 		for (final Entry<IProject, List<MavenPluginGoalNode>> project : projects.entrySet()) {
 			try {
 				// Each plugin goal is run separately
 				for (MavenPluginGoalNode goalNode : project.getValue()) {
-					runner.runGoalForProject(project.getKey(), goalNode.getGoalCommand());
+					runner.runGoalForProject(project.getKey(), goalNode.getGoalCommand(), priority);
 				}
 			} catch (final MavenRunnerException e) {
 				MessageDialog.openError(shell, Messages.getString("ErrorWhileRunningMaven"), e.getLocalizedMessage());
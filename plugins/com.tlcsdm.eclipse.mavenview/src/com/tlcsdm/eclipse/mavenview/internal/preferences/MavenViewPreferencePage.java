@@ -1,7 +1,9 @@
 package com.tlcsdm.eclipse.mavenview.internal.preferences;
 
+import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.ComboFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
@@ -41,6 +43,8 @@ public class MavenViewPreferencePage extends FieldEditorPreferencePage implement
 		}
 	}
 
+	private static final int MAX_CONCURRENT_BUILDS = 32;
+
 	private IWorkbench workbench;
 
 	public MavenViewPreferencePage() {
@@ -66,6 +70,25 @@ public class MavenViewPreferencePage extends FieldEditorPreferencePage implement
 		addField(new CheckTableFieldEditor(MavenViewPreferences.DISPLAYED_PHASES, getFieldEditorParent(),
 				Messages.getString("DisplayedPhases") + ':').labelProvider(new PhaseLabelProvider())
 				.input(Phase.values()));
+
+		addField(new BooleanFieldEditor(MavenViewPreferences.VIRTUAL_TREE, Messages.getString("VirtualTree"),
+				getFieldEditorParent()));
+		addField(new BooleanFieldEditor(MavenViewPreferences.RESOLVED_DEPENDENCIES,
+				Messages.getString("ResolvedDependencies"), getFieldEditorParent()));
+		addField(new BooleanFieldEditor(MavenViewPreferences.REACTOR_RUNS, Messages.getString("ReactorRuns"),
+				getFieldEditorParent()));
+		addField(new BooleanFieldEditor(MavenViewPreferences.REACTOR_ALSO_MAKE,
+				Messages.getString("ReactorAlsoMake"), getFieldEditorParent()));
+		addField(new BooleanFieldEditor(MavenViewPreferences.BATCH_GOALS, Messages.getString("BatchGoals"),
+				getFieldEditorParent()));
+		addField(new BooleanFieldEditor(MavenViewPreferences.BUILD_CACHE, Messages.getString("BuildCache"),
+				getFieldEditorParent()));
+
+		final IntegerFieldEditor maxConcurrentBuilds = new IntegerFieldEditor(
+				MavenViewPreferences.MAX_CONCURRENT_BUILDS, Messages.getString("MaxConcurrentBuilds") + ':',
+				getFieldEditorParent());
+		maxConcurrentBuilds.setValidRange(1, MAX_CONCURRENT_BUILDS);
+		addField(maxConcurrentBuilds);
 	}
 
 	static <E extends Enum<E> & Displayable> String[][] createEntryNamesAndValues(E[] enumValues) {
@@ -20,6 +20,13 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		store.setDefault(MavenViewPreferences.DISPLAYED_PHASES,
 				MavenViewPreferences.getDisplayedPhasesString(Phase.values()));
 		store.setDefault(MavenViewPreferences.SKIP_TESTS, false);
+		store.setDefault(MavenViewPreferences.VIRTUAL_TREE, false);
+		store.setDefault(MavenViewPreferences.RESOLVED_DEPENDENCIES, false);
+		store.setDefault(MavenViewPreferences.REACTOR_RUNS, true);
+		store.setDefault(MavenViewPreferences.REACTOR_ALSO_MAKE, false);
+		store.setDefault(MavenViewPreferences.MAX_CONCURRENT_BUILDS, 2);
+		store.setDefault(MavenViewPreferences.BATCH_GOALS, true);
+		store.setDefault(MavenViewPreferences.BUILD_CACHE, false);
 	}
 
 }
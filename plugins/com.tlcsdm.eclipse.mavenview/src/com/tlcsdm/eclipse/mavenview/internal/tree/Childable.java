@@ -0,0 +1,14 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+/**
+ * A node that knows its parent node, so that the viewer does not have to search
+ * the whole tree to reveal, expand or select it.
+ */
+public interface Childable {
+
+	/**
+	 * Returns the parent node, i.e. the node whose {@link Parentable#getChildren()}
+	 * contains this node.
+	 */
+	Object getParent();
+}
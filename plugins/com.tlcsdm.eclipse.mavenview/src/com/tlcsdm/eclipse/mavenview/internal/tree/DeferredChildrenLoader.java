@@ -0,0 +1,148 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.AbstractTreeViewer;
+import org.eclipse.jface.viewers.ITreeViewerListener;
+import org.eclipse.jface.viewers.TreeExpansionEvent;
+import org.eclipse.swt.widgets.Control;
+
+import com.tlcsdm.eclipse.mavenview.Displayable;
+
+/**
+ * Computes the children of {@link Parentable#isDeferred() deferred} nodes in a
+ * background {@link Job}, similar to
+ * <code>org.eclipse.ui.progress.DeferredTreeContentManager</code>. While a job
+ * is running, a {@link PendingUpdateNode} is shown as the only child. When the
+ * job finishes the parent is refreshed; collapsing the parent or disposing the
+ * loader cancels the job.
+ * <p>
+ * All methods have to be called from the UI thread.
+ * </p>
+ */
+public class DeferredChildrenLoader {
+
+	private final AbstractTreeViewer viewer;
+	private final Map<Object, LoadChildrenJob> runningJobs = new HashMap<>();
+
+	private final ITreeViewerListener collapseListener = new ITreeViewerListener() {
+
+		@Override
+		public void treeExpanded(TreeExpansionEvent event) {
+			// loading is started by getChildren()
+		}
+
+		@Override
+		public void treeCollapsed(TreeExpansionEvent event) {
+			cancel(event.getElement());
+		}
+	};
+
+	public DeferredChildrenLoader(AbstractTreeViewer viewer) {
+		this.viewer = viewer;
+		this.viewer.addTreeListener(this.collapseListener);
+	}
+
+	/**
+	 * Returns the children of the parent if they are available right away,
+	 * otherwise schedules a job to compute them and returns a placeholder.
+	 */
+	public Object[] getChildren(Parentable parent) {
+		if (!parent.isDeferred()) {
+			return parent.getChildren();
+		}
+
+		LoadChildrenJob job = this.runningJobs.get(parent);
+		if (job == null) {
+			job = new LoadChildrenJob(parent);
+			this.runningJobs.put(parent, job);
+			job.schedule();
+		}
+		return new Object[] { job.placeholder };
+	}
+
+	/**
+	 * Cancels loading the children of the element, the placeholder is removed so
+	 * that expanding the element again restarts loading.
+	 */
+	public void cancel(Object element) {
+		final LoadChildrenJob job = this.runningJobs.remove(element);
+		if (job != null) {
+			job.cancel();
+			if (!isDisposed()) {
+				this.viewer.remove(job.placeholder);
+			}
+		}
+	}
+
+	/**
+	 * Cancels all running jobs, e.g. because the view is closed.
+	 */
+	public void cancelAll() {
+		for (final LoadChildrenJob job : this.runningJobs.values()) {
+			job.cancel();
+		}
+		this.runningJobs.clear();
+	}
+
+	public void dispose() {
+		cancelAll();
+		if (!isDisposed()) {
+			this.viewer.removeTreeListener(this.collapseListener);
+		}
+	}
+
+	private boolean isDisposed() {
+		final Control control = this.viewer.getControl();
+		return control == null || control.isDisposed();
+	}
+
+	private void childrenLoaded(LoadChildrenJob job) {
+		// the job might have been cancelled (and replaced) in the meantime
+		if (this.runningJobs.get(job.parent) != job) {
+			return;
+		}
+		this.runningJobs.remove(job.parent);
+		if (!isDisposed()) {
+			this.viewer.refresh(job.parent, true);
+		}
+	}
+
+	private class LoadChildrenJob extends Job {
+
+		private final Parentable parent;
+		private final PendingUpdateNode placeholder;
+
+		LoadChildrenJob(Parentable parent) {
+			super(MessageFormat.format(Messages.getString("LoadChildrenJob"),
+					parent instanceof Displayable ? ((Displayable) parent).getDisplayName() : parent));
+			this.parent = parent;
+			this.placeholder = new PendingUpdateNode(parent);
+			setPriority(Job.SHORT);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			// computing the children once makes the parent answer them right away
+			this.parent.getChildren();
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+
+			final Control control = DeferredChildrenLoader.this.viewer.getControl();
+			if (control != null && !control.isDisposed()) {
+				control.getDisplay().asyncExec(() -> childrenLoaded(this));
+			}
+			return Status.OK_STATUS;
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+/**
+ * A dependency declared in the Maven model of a project.
+ */
+public record Dependency(String groupId, String artifactId, String version, String scope) {
+}
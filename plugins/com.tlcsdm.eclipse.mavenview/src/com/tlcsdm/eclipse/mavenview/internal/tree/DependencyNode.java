@@ -11,20 +11,28 @@ import com.tlcsdm.eclipse.mavenview.MavenViewImages;
 /**
  * Represents a Maven dependency in the tree view.
  */
-public class DependencyNode implements Displayable {
+public class DependencyNode implements Displayable, Childable {
 
+	private final DependenciesNode dependenciesNode;
 	private final String groupId;
 	private final String artifactId;
 	private final String version;
 	private final String scope;
 
-	public DependencyNode(String groupId, String artifactId, String version, String scope) {
+	public DependencyNode(DependenciesNode dependenciesNode, String groupId, String artifactId, String version,
+			String scope) {
+		this.dependenciesNode = Objects.requireNonNull(dependenciesNode);
 		this.groupId = Objects.requireNonNull(groupId);
 		this.artifactId = Objects.requireNonNull(artifactId);
 		this.version = version != null ? version : "";
 		this.scope = scope;
 	}
 
+	@Override
+	public Object getParent() {
+		return this.dependenciesNode;
+	}
+
 	@Override
 	public String getDisplayName() {
 		return groupId + ":" + artifactId + ":" + version;
@@ -60,7 +68,7 @@ public class DependencyNode implements Displayable {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(groupId, artifactId, version, scope);
+		return Objects.hash(dependenciesNode, groupId, artifactId, version, scope);
 	}
 
 	@Override
@@ -70,7 +78,8 @@ public class DependencyNode implements Displayable {
 		if (obj == null || getClass() != obj.getClass())
 			return false;
 		DependencyNode other = (DependencyNode) obj;
-		return Objects.equals(groupId, other.groupId) && Objects.equals(artifactId, other.artifactId)
+		return Objects.equals(dependenciesNode, other.dependenciesNode) && Objects.equals(groupId, other.groupId)
+				&& Objects.equals(artifactId, other.artifactId)
 				&& Objects.equals(version, other.version) && Objects.equals(scope, other.scope);
 	}
 }
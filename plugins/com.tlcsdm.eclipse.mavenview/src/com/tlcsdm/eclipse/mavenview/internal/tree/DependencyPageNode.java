@@ -0,0 +1,80 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.swt.graphics.Image;
+
+import com.tlcsdm.eclipse.mavenview.Activator;
+import com.tlcsdm.eclipse.mavenview.Displayable;
+import com.tlcsdm.eclipse.mavenview.MavenViewImages;
+
+/**
+ * Groups {@link #PAGE_SIZE} dependencies of a node with hundreds of
+ * dependencies, like the partitions of large arrays in the Variables view, so
+ * that expanding the node does not create all their items at once.
+ */
+public class DependencyPageNode implements Displayable, Parentable, Childable {
+
+	static final int PAGE_SIZE = 100;
+
+	static Object[] createPages(Object parent, List<ResolvedDependency> dependencies) {
+		final int pageCount = (dependencies.size() + PAGE_SIZE - 1) / PAGE_SIZE;
+		final Object[] result = new Object[pageCount];
+		for (int i = 0; i < pageCount; i++) {
+			final int from = i * PAGE_SIZE;
+			result[i] = new DependencyPageNode(parent, dependencies, from,
+					Math.min(from + PAGE_SIZE, dependencies.size()));
+		}
+		return result;
+	}
+
+	private final Object parent;
+	private final List<ResolvedDependency> dependencies;
+	private final int from;
+	private final int to;
+
+	DependencyPageNode(Object parent, List<ResolvedDependency> dependencies, int from, int to) {
+		this.parent = Objects.requireNonNull(parent);
+		this.dependencies = Objects.requireNonNull(dependencies);
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	public Object getParent() {
+		return this.parent;
+	}
+
+	@Override
+	public String getDisplayName() {
+		return MessageFormat.format(Messages.getString("DependencyPage"), this.from + 1, this.to);
+	}
+
+	@Override
+	public Image getImage() {
+		return Activator.getImage(MavenViewImages.OBJ_DEPENDENCIES);
+	}
+
+	@Override
+	public Object[] getChildren() {
+		return ResolvedDependencyNode.create(this, this.dependencies, this.from, this.to);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Objects.hash(this.parent, this.from, this.to);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+
+		final DependencyPageNode that = (DependencyPageNode) obj;
+		return Objects.equals(this.parent, that.parent) && this.from == that.from && this.to == that.to;
+	}
+}
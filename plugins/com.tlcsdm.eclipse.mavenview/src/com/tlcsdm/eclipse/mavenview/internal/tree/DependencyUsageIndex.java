@@ -0,0 +1,132 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+
+/**
+ * Inverted index from the <code>groupId:artifactId</code> of a dependency to the
+ * projects that declare it. The index is fed by {@link ProjectModelCache}
+ * whenever it reads a snapshot, so answering a query is a single hash lookup
+ * once all projects were read.
+ */
+public final class DependencyUsageIndex {
+
+	/**
+	 * A project that declares a dependency.
+	 */
+	public record Usage(String projectName, Dependency dependency) {
+	}
+
+	private static final Comparator<Usage> USAGE_ORDER = Comparator.comparing(Usage::projectName)
+			.thenComparing(usage -> usage.dependency().version(), Comparator.nullsFirst(Comparator.naturalOrder()));
+
+	// Declaring projects per groupId:artifactId
+	private static final Map<String, List<Usage>> usages = new HashMap<>();
+
+	// The snapshot each project was indexed from
+	private static final Map<String, ProjectModelSnapshot> indexedSnapshots = new HashMap<>();
+
+	private DependencyUsageIndex() {
+		// hidden
+	}
+
+	/**
+	 * Makes sure the index contains exactly the dependencies of the current models
+	 * of the projects, reading the models that are not cached yet.
+	 */
+	public static void update(IProject[] projects, IProgressMonitor monitor) {
+		final SubMonitor subMonitor = SubMonitor.convert(monitor, projects.length);
+		final Set<String> projectNames = new HashSet<>();
+		for (final IProject project : projects) {
+			if (subMonitor.isCanceled()) {
+				return;
+			}
+			projectNames.add(project.getName());
+			// indexes the snapshot if it was not indexed yet
+			ProjectModelCache.getSnapshot(project);
+			subMonitor.worked(1);
+		}
+
+		synchronized (DependencyUsageIndex.class) {
+			for (final String projectName : new ArrayList<>(indexedSnapshots.keySet())) {
+				if (!projectNames.contains(projectName)) {
+					remove(projectName);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the projects that declare the dependency, sorted by project name.
+	 *
+	 * @param version the version of the dependency or null for any version
+	 */
+	public static synchronized List<Usage> findUsages(String groupId, String artifactId, String version) {
+		final List<Usage> result = usages.get(getKey(groupId, artifactId));
+		if (result == null) {
+			return Collections.emptyList();
+		}
+
+		final List<Usage> filtered = new ArrayList<>(result.size());
+		for (final Usage usage : result) {
+			if (version == null || version.isEmpty() || version.equals(usage.dependency().version())) {
+				filtered.add(usage);
+			}
+		}
+		filtered.sort(USAGE_ORDER);
+		return filtered;
+	}
+
+	/**
+	 * Replaces the dependencies of the project with those of the snapshot, nothing
+	 * is done if the project was already indexed from this snapshot.
+	 */
+	static synchronized void update(String projectName, ProjectModelSnapshot snapshot) {
+		if (indexedSnapshots.get(projectName) == snapshot) {
+			return;
+		}
+		remove(projectName);
+
+		for (final Dependency dependency : snapshot.getDependencies()) {
+			usages.computeIfAbsent(getKey(dependency.groupId(), dependency.artifactId()), key -> new ArrayList<>(4))
+					.add(new Usage(projectName, dependency));
+		}
+		indexedSnapshots.put(projectName, snapshot);
+	}
+
+	static synchronized void remove(String projectName) {
+		final ProjectModelSnapshot snapshot = indexedSnapshots.remove(projectName);
+		if (snapshot == null) {
+			return;
+		}
+		for (final Dependency dependency : snapshot.getDependencies()) {
+			final String key = getKey(dependency.groupId(), dependency.artifactId());
+			final List<Usage> keyUsages = usages.get(key);
+			if (keyUsages != null) {
+				keyUsages.removeIf(usage -> usage.projectName().equals(projectName));
+				if (keyUsages.isEmpty()) {
+					usages.remove(key);
+				}
+			}
+		}
+	}
+
+	static synchronized void clear() {
+		usages.clear();
+		indexedSnapshots.clear();
+	}
+
+	private static String getKey(String groupId, String artifactId) {
+		return groupId + ':' + artifactId;
+	}
+}
@@ -2,6 +2,7 @@ package com.tlcsdm.eclipse.mavenview.internal.tree;
 
 import java.util.Objects;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.swt.graphics.Image;
 
@@ -9,18 +10,29 @@ import com.tlcsdm.eclipse.mavenview.Activator;
 import com.tlcsdm.eclipse.mavenview.Displayable;
 import com.tlcsdm.eclipse.mavenview.MavenViewImages;
 
-public class LaunchConfigNode implements Displayable {
+public class LaunchConfigNode implements Displayable, Childable {
 
+	private final LaunchConfigsNode launchConfigsNode;
 	private final ILaunchConfiguration launchConfig;
 
-	public LaunchConfigNode(ILaunchConfiguration launchConfig) {
+	public LaunchConfigNode(LaunchConfigsNode launchConfigsNode, ILaunchConfiguration launchConfig) {
+		this.launchConfigsNode = Objects.requireNonNull(launchConfigsNode);
 		this.launchConfig = Objects.requireNonNull(launchConfig);
 	}
 
+	@Override
+	public Object getParent() {
+		return this.launchConfigsNode;
+	}
+
 	public ILaunchConfiguration getLaunchConfig() {
 		return this.launchConfig;
 	}
 
+	public IProject getProject() {
+		return this.launchConfigsNode.getProject();
+	}
+
 	@Override
 	public String getDisplayName() {
 		return this.launchConfig.getName();
@@ -31,4 +43,25 @@ public class LaunchConfigNode implements Displayable {
 		return Activator.getImage(MavenViewImages.OBJ_MAVEN);
 	}
 
+	@Override
+	public int hashCode() {
+		return 23 * Objects.hash(this.launchConfigsNode, this.launchConfig);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+
+		final LaunchConfigNode that = (LaunchConfigNode) obj;
+		if (!Objects.equals(this.launchConfigsNode, that.launchConfigsNode))
+			return false;
+		if (!Objects.equals(this.launchConfig, that.launchConfig))
+			return false;
+		return true;
+	}
 }
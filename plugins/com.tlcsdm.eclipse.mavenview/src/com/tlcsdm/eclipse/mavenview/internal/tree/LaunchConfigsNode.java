@@ -3,6 +3,7 @@ package com.tlcsdm.eclipse.mavenview.internal.tree;
 import java.util.Arrays;
 import java.util.Objects;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.swt.graphics.Image;
 
@@ -10,7 +11,7 @@ import com.tlcsdm.eclipse.mavenview.Activator;
 import com.tlcsdm.eclipse.mavenview.Displayable;
 import com.tlcsdm.eclipse.mavenview.MavenViewImages;
 
-public class LaunchConfigsNode implements Displayable, Parentable {
+public class LaunchConfigsNode implements Displayable, Parentable, Childable {
 
 	private final ProjectNode mavenProject;
 	private final ILaunchConfiguration[] launchConfigs;
@@ -20,6 +21,15 @@ public class LaunchConfigsNode implements Displayable, Parentable {
 		this.launchConfigs = Objects.requireNonNull(launchConfigs);
 	}
 
+	@Override
+	public Object getParent() {
+		return this.mavenProject;
+	}
+
+	public IProject getProject() {
+		return this.mavenProject.getProjectResource();
+	}
+
 	@Override
 	public String getDisplayName() {
 		return Messages.getString("launchConfigs");
@@ -34,7 +44,7 @@ public class LaunchConfigsNode implements Displayable, Parentable {
 	public Object[] getChildren() {
 		final Object[] children = new Object[this.launchConfigs.length];
 		for (int i = 0; i < this.launchConfigs.length; i++) {
-			children[i] = new LaunchConfigNode(this.launchConfigs[i]);
+			children[i] = new LaunchConfigNode(this, this.launchConfigs[i]);
 		}
 		return children;
 	}
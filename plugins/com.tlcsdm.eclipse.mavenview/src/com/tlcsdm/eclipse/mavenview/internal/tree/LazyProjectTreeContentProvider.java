@@ -0,0 +1,146 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.ITreeViewerListener;
+import org.eclipse.jface.viewers.TreeExpansionEvent;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerFilter;
+
+/**
+ * Content provider for a {@link TreeViewer} created with
+ * {@link org.eclipse.swt.SWT#VIRTUAL}, so that only the visible rows are
+ * materialized. This pays off for workspaces with thousands of modules or
+ * dependencies.
+ * <p>
+ * The children of a node are computed when the viewer asks for their number and
+ * kept until it asks again, e.g. because the node was refreshed or expanded
+ * again. They are forgotten when the node is collapsed or the input changes.
+ * Deferred nodes are loaded in the background like in
+ * {@link ProjectTreeContentProvider}, parents are answered by the
+ * {@link Childable} nodes.
+ * </p>
+ * <p>
+ * The viewer does not apply its filters to a lazy content provider, so the
+ * children are filtered here.
+ * </p>
+ */
+public class LazyProjectTreeContentProvider implements ILazyTreeContentProvider {
+
+	private TreeViewer viewer;
+	private DeferredChildrenLoader loader;
+
+	// Children of the nodes the viewer asked for, the input is mapped as well
+	private final Map<Object, Object[]> children = new HashMap<>();
+
+	private final ITreeViewerListener collapseListener = new ITreeViewerListener() {
+
+		@Override
+		public void treeCollapsed(TreeExpansionEvent event) {
+			forgetChildren(event.getElement());
+		}
+
+		@Override
+		public void treeExpanded(TreeExpansionEvent event) {
+			// the viewer asks for the children
+		}
+	};
+
+	@Override
+	public void inputChanged(Viewer newViewer, Object oldInput, Object newInput) {
+		this.children.clear();
+		if (this.loader == null && newViewer instanceof TreeViewer) {
+			this.viewer = (TreeViewer) newViewer;
+			this.viewer.addTreeListener(this.collapseListener);
+			// running jobs are kept, the nodes of the new input are equal to the old ones
+			this.loader = new DeferredChildrenLoader(this.viewer);
+		}
+	}
+
+	@Override
+	public void updateChildCount(Object element, int currentChildCount) {
+		final Object[] elementChildren = computeChildren(element);
+		this.children.put(element, elementChildren);
+		this.viewer.setChildCount(element, elementChildren.length);
+	}
+
+	@Override
+	public void updateElement(Object parent, int index) {
+		Object[] parentChildren = this.children.get(parent);
+		if (parentChildren == null) {
+			parentChildren = computeChildren(parent);
+			this.children.put(parent, parentChildren);
+		}
+		if (index >= parentChildren.length) {
+			return;
+		}
+
+		final Object child = parentChildren[index];
+		this.viewer.replace(parent, index, child);
+		// the children themselves are computed when the node is expanded
+		this.viewer.setHasChildren(child, child instanceof Parentable);
+	}
+
+	@Override
+	public Object getParent(Object element) {
+		return element instanceof Childable ? ((Childable) element).getParent() : null;
+	}
+
+	/**
+	 * Forgets the children of the element and of all its descendants.
+	 */
+	private void forgetChildren(Object element) {
+		for (final Iterator<Object> iterator = this.children.keySet().iterator(); iterator.hasNext();) {
+			final Object node = iterator.next();
+			if (isDescendantOrSelf(node, element)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private boolean isDescendantOrSelf(Object node, Object ancestor) {
+		for (Object current = node; current != null; current = getParent(current)) {
+			if (current.equals(ancestor)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Object[] computeChildren(Object element) {
+		Object[] result = computeUnfilteredChildren(element);
+		for (final ViewerFilter filter : this.viewer.getFilters()) {
+			result = filter.filter(this.viewer, element, result);
+		}
+		return result;
+	}
+
+	private Object[] computeUnfilteredChildren(Object element) {
+		if (element instanceof ProjectNode[]) {
+			return (ProjectNode[]) element;
+		}
+		if (!(element instanceof Parentable)) {
+			return new Object[0];
+		}
+		if (this.loader == null) {
+			return ((Parentable) element).getChildren();
+		}
+		return this.loader.getChildren((Parentable) element);
+	}
+
+	@Override
+	public void dispose() {
+		if (this.loader != null) {
+			this.loader.dispose();
+			this.loader = null;
+		}
+		if (this.viewer != null && !this.viewer.getControl().isDisposed()) {
+			this.viewer.removeTreeListener(this.collapseListener);
+		}
+		this.children.clear();
+	}
+}
@@ -0,0 +1,302 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.tlcsdm.eclipse.mavenview.Activator;
+
+/**
+ * Reads the Maven model (<code>MavenProject</code>, <code>Model</code>,
+ * <code>Profile</code>, <code>Plugin</code> and <code>Dependency</code>)
+ * reflectively and hands back plain values.
+ * <p>
+ * Reflection allows accessing Maven model data without adding Maven
+ * dependencies that might conflict with M2E's embedded Maven version, avoiding
+ * access restriction errors. The getters are resolved only once per model class
+ * into {@link MethodHandle}s, so walking a model does no reflective lookup per
+ * element. If a getter cannot be resolved, the accessor logs a warning once and
+ * reports itself as unavailable from then on.
+ * </p>
+ */
+final class MavenModelAccessor {
+
+	/**
+	 * Thrown if a getter could not be resolved, i.e. the Maven model has to be read
+	 * in another way.
+	 */
+	static final class UnavailableException extends Exception {
+
+		private static final long serialVersionUID = 2650941522640387218L;
+
+		UnavailableException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final Getter GET_MODEL = new Getter("getModel");
+	private static final Getter GET_BUILD_PLUGINS = new Getter("getBuildPlugins");
+	private static final Getter GET_PROFILES = new Getter("getProfiles");
+	private static final Getter GET_DEPENDENCIES = new Getter("getDependencies");
+	private static final Getter GET_ID = new Getter("getId");
+	private static final Getter GET_ACTIVATION = new Getter("getActivation");
+	private static final Getter IS_ACTIVE_BY_DEFAULT = new Getter("isActiveByDefault");
+	private static final Getter GET_GROUP_ID = new Getter("getGroupId");
+	private static final Getter GET_ARTIFACT_ID = new Getter("getArtifactId");
+	private static final Getter GET_VERSION = new Getter("getVersion");
+	private static final Getter GET_SCOPE = new Getter("getScope");
+	private static final Getter GET_ARTIFACTS = new Getter("getArtifacts");
+	private static final Getter GET_BASE_VERSION = new Getter("getBaseVersion");
+	private static final Getter GET_DEPENDENCY_TRAIL = new Getter("getDependencyTrail");
+	private static final Getter GET_DEPENDENCY_MANAGEMENT = new Getter("getDependencyManagement");
+	private static final Getter GET_CHILDREN = new Getter("getChildren");
+	private static final Getter GET_DEPENDENCY = new Getter("getDependency");
+	private static final Getter GET_ARTIFACT = new Getter("getArtifact");
+
+	private static volatile UnavailableException unavailable;
+
+	private MavenModelAccessor() {
+		// hidden
+	}
+
+	/**
+	 * Returns false if a getter could not be resolved before, so that callers can
+	 * skip the reflective access altogether.
+	 */
+	static boolean isAvailable() {
+		return unavailable == null;
+	}
+
+	/**
+	 * Makes the accessor available again, for tests. Getters that failed to
+	 * resolve for a class are not resolved again.
+	 */
+	static void reset() {
+		unavailable = null;
+	}
+
+	static Object getModel(Object mavenProject) throws UnavailableException {
+		return GET_MODEL.invoke(mavenProject);
+	}
+
+	static Profile[] getProfiles(Object model) throws UnavailableException {
+		final List<?> profiles = (List<?>) GET_PROFILES.invoke(model);
+		if (profiles == null || profiles.isEmpty()) {
+			return new Profile[0];
+		}
+
+		final List<Profile> result = new ArrayList<>(profiles.size());
+		for (final Object profile : profiles) {
+			final String id = (String) GET_ID.invoke(profile);
+			if (id == null || id.trim().isEmpty()) {
+				continue;
+			}
+
+			boolean activeByDefault = false;
+			final Object activation = GET_ACTIVATION.invoke(profile);
+			if (activation != null) {
+				activeByDefault = Boolean.TRUE.equals(IS_ACTIVE_BY_DEFAULT.invoke(activation));
+			}
+			result.add(new Profile(id, activeByDefault));
+		}
+		return result.toArray(new Profile[0]);
+	}
+
+	static Plugin[] getBuildPlugins(Object mavenProject) throws UnavailableException {
+		final List<?> plugins = (List<?>) GET_BUILD_PLUGINS.invoke(mavenProject);
+		if (plugins == null || plugins.isEmpty()) {
+			return new Plugin[0];
+		}
+
+		final List<Plugin> result = new ArrayList<>(plugins.size());
+		for (final Object plugin : plugins) {
+			final String groupId = (String) GET_GROUP_ID.invoke(plugin);
+			final String artifactId = (String) GET_ARTIFACT_ID.invoke(plugin);
+			if (groupId == null || artifactId == null) {
+				continue;
+			}
+			final String version = (String) GET_VERSION.invoke(plugin);
+			result.add(new Plugin(groupId, artifactId, version != null ? version : ""));
+		}
+		return result.toArray(new Plugin[0]);
+	}
+
+	static Dependency[] getDependencies(Object model) throws UnavailableException {
+		final List<?> dependencies = (List<?>) GET_DEPENDENCIES.invoke(model);
+		if (dependencies == null || dependencies.isEmpty()) {
+			return new Dependency[0];
+		}
+
+		final List<Dependency> result = new ArrayList<>(dependencies.size());
+		for (final Object dependency : dependencies) {
+			final String groupId = (String) GET_GROUP_ID.invoke(dependency);
+			final String artifactId = (String) GET_ARTIFACT_ID.invoke(dependency);
+			if (groupId == null || artifactId == null) {
+				continue;
+			}
+			final String version = (String) GET_VERSION.invoke(dependency);
+			final String scope = (String) GET_SCOPE.invoke(dependency);
+			result.add(new Dependency(groupId, artifactId, version != null ? version : "", scope));
+		}
+		return result.toArray(new Dependency[0]);
+	}
+
+	/**
+	 * Returns the artifacts m2e resolved for the project, i.e. all direct and
+	 * transitive dependencies, in the order Maven resolved them.
+	 */
+	static List<ResolvedDependencyTree.Artifact> getResolvedArtifacts(Object mavenProject)
+			throws UnavailableException {
+		final Collection<?> artifacts = (Collection<?>) GET_ARTIFACTS.invoke(mavenProject);
+		if (artifacts == null || artifacts.isEmpty()) {
+			return List.of();
+		}
+
+		final List<ResolvedDependencyTree.Artifact> result = new ArrayList<>(artifacts.size());
+		for (final Object artifact : artifacts) {
+			final String id = (String) GET_ID.invoke(artifact);
+			final String groupId = (String) GET_GROUP_ID.invoke(artifact);
+			final String artifactId = (String) GET_ARTIFACT_ID.invoke(artifact);
+			if (id == null || groupId == null || artifactId == null) {
+				continue;
+			}
+			final String version = (String) GET_BASE_VERSION.invoke(artifact);
+			final String scope = (String) GET_SCOPE.invoke(artifact);
+			final List<?> trail = (List<?>) GET_DEPENDENCY_TRAIL.invoke(artifact);
+			result.add(new ResolvedDependencyTree.Artifact(id, groupId, artifactId, version != null ? version : "",
+					scope, trail != null ? trail.stream().map(String::valueOf).toList() : List.of()));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the versions of the dependency management of the (effective) model
+	 * per <code>groupId:artifactId</code>.
+	 */
+	static Map<String, String> getManagedVersions(Object model) throws UnavailableException {
+		final Object dependencyManagement = GET_DEPENDENCY_MANAGEMENT.invoke(model);
+		if (dependencyManagement == null) {
+			return Map.of();
+		}
+		final List<?> dependencies = (List<?>) GET_DEPENDENCIES.invoke(dependencyManagement);
+		if (dependencies == null || dependencies.isEmpty()) {
+			return Map.of();
+		}
+
+		final Map<String, String> result = new HashMap<>();
+		for (final Object dependency : dependencies) {
+			final String groupId = (String) GET_GROUP_ID.invoke(dependency);
+			final String artifactId = (String) GET_ARTIFACT_ID.invoke(dependency);
+			final String version = (String) GET_VERSION.invoke(dependency);
+			if (groupId != null && artifactId != null && version != null) {
+				result.putIfAbsent(groupId + ':' + artifactId, version);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the direct dependencies of a collected, not yet conflict resolved
+	 * dependency graph (an Aether <code>DependencyNode</code>). The graph is walked
+	 * breadth first and the dependencies of a
+	 * <code>groupId:artifactId:version</code> are only read at its first, i.e.
+	 * nearest, occurrence, because the other ones are omitted by Maven anyway.
+	 */
+	static List<ResolvedDependencyTree.Node> getDependencyGraph(Object rootNode) throws UnavailableException {
+		final List<ResolvedDependencyTree.Node> result = new ArrayList<>();
+		final Deque<Object> nodes = new ArrayDeque<>();
+		final Deque<List<ResolvedDependencyTree.Node>> nodeChildren = new ArrayDeque<>();
+		nodes.add(rootNode);
+		nodeChildren.add(result);
+		final Set<String> expanded = new HashSet<>();
+		while (!nodes.isEmpty()) {
+			final List<?> children = (List<?>) GET_CHILDREN.invoke(nodes.poll());
+			final List<ResolvedDependencyTree.Node> parentChildren = nodeChildren.poll();
+			if (children == null) {
+				continue;
+			}
+			for (final Object child : children) {
+				final Object dependency = GET_DEPENDENCY.invoke(child);
+				final Object artifact = dependency != null ? GET_ARTIFACT.invoke(dependency) : null;
+				if (artifact == null) {
+					continue;
+				}
+				final String groupId = (String) GET_GROUP_ID.invoke(artifact);
+				final String artifactId = (String) GET_ARTIFACT_ID.invoke(artifact);
+				if (groupId == null || artifactId == null) {
+					continue;
+				}
+				final String version = (String) GET_BASE_VERSION.invoke(artifact);
+				final List<ResolvedDependencyTree.Node> grandchildren = new ArrayList<>();
+				parentChildren.add(new ResolvedDependencyTree.Node(groupId, artifactId, version,
+						(String) GET_SCOPE.invoke(dependency), grandchildren));
+				if (expanded.add(groupId + ':' + artifactId + ':' + version)) {
+					nodes.add(child);
+					nodeChildren.add(grandchildren);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static void markUnavailable(Class<?> type, String methodName, Exception cause) {
+		final UnavailableException exception = new UnavailableException(
+				"Cannot access " + type.getName() + '#' + methodName + "()", cause);
+		if (unavailable == null) {
+			unavailable = exception;
+			Activator.getDefault().getLog().warn("Maven reflection API access failed, falling back to XML parsing. "
+					+ "This may not include data inherited from parent POMs.", exception);
+		}
+	}
+
+	/**
+	 * A no-argument getter resolved once per class.
+	 */
+	private static final class Getter extends ClassValue<Optional<MethodHandle>> {
+
+		private final String methodName;
+
+		Getter(String methodName) {
+			this.methodName = methodName;
+		}
+
+		@Override
+		protected Optional<MethodHandle> computeValue(Class<?> type) {
+			try {
+				return Optional.of(
+						MethodHandles.publicLookup().unreflect(type.getMethod(this.methodName)).asType(GETTER_TYPE));
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				markUnavailable(type, this.methodName, e);
+				return Optional.empty();
+			}
+		}
+
+		Object invoke(Object target) throws UnavailableException {
+			final MethodHandle handle = get(target.getClass()).orElse(null);
+			if (handle == null) {
+				// resolving the getter failed and marked the accessor as unavailable
+				throw unavailable;
+			}
+			try {
+				return (Object) handle.invokeExact(target);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new UndeclaredThrowableException(e);
+			}
+		}
+	}
+}
@@ -17,9 +17,10 @@ import com.tlcsdm.eclipse.mavenview.MavenViewImages;
  * Represents a single Maven plugin goal that can be executed.
  * Displayed as "prefix:goal" (e.g., "clean:clean", "compiler:compile").
  */
-public class MavenPluginGoalNode implements Displayable {
+public class MavenPluginGoalNode implements Displayable, Childable {
 
-	// Common goals for well-known Maven plugins
+	// Common goals for well-known Maven plugins, used if the plugin is not in the
+	// local repository yet
 	private static final Map<String, String[]> KNOWN_PLUGIN_GOALS = new HashMap<>();
 
 	static {
@@ -88,24 +89,42 @@ public class MavenPluginGoalNode implements Displayable {
 
 	private final MavenPluginNode pluginNode;
 	private final String goal;
+	private final String phase;
+	private final String description;
 
 	public MavenPluginGoalNode(MavenPluginNode pluginNode, String goal) {
+		this(pluginNode, goal, null, null);
+	}
+
+	/**
+	 * @param phase       the phase the goal is bound to by default or null
+	 * @param description the description of the goal or null
+	 */
+	public MavenPluginGoalNode(MavenPluginNode pluginNode, String goal, String phase, String description) {
 		this.pluginNode = Objects.requireNonNull(pluginNode);
 		this.goal = Objects.requireNonNull(goal);
+		this.phase = phase;
+		this.description = description;
 	}
 
 	/**
-	 * Create goal nodes for a plugin.
+	 * Create goal nodes for a plugin, from its descriptor if the plugin is in the
+	 * local repository.
 	 */
 	public static MavenPluginGoalNode[] createGoals(MavenPluginNode pluginNode) {
-		String artifactId = pluginNode.getArtifactId();
-		String[] goals = KNOWN_PLUGIN_GOALS.get(artifactId);
-
-		if (goals == null) {
-			// For unknown plugins, provide common goals
-			goals = new String[] { "help" };
+		final PluginDescriptor descriptor = PluginDescriptorCache.getDescriptor(pluginNode.getGroupId(),
+				pluginNode.getArtifactId(), pluginNode.getVersion());
+		if (descriptor != null && !descriptor.goals().isEmpty()) {
+			final MavenPluginGoalNode[] result = new MavenPluginGoalNode[descriptor.goals().size()];
+			for (int i = 0; i < result.length; i++) {
+				final PluginDescriptor.Goal goal = descriptor.goals().get(i);
+				result[i] = new MavenPluginGoalNode(pluginNode, goal.name(), goal.phase(), goal.description());
+			}
+			return result;
 		}
 
+		String[] goals = getKnownGoals(pluginNode.getArtifactId());
+
 		List<MavenPluginGoalNode> result = new ArrayList<>();
 		for (String goal : goals) {
 			result.add(new MavenPluginGoalNode(pluginNode, goal));
@@ -113,6 +132,29 @@ public class MavenPluginGoalNode implements Displayable {
 		return result.toArray(new MavenPluginGoalNode[0]);
 	}
 
+	/**
+	 * Returns the names of the goals of a plugin without reading its jar, i.e. from
+	 * the cached descriptor or the well-known goals.
+	 */
+	static String[] getCachedGoalNames(String groupId, String artifactId, String version) {
+		final PluginDescriptor descriptor = PluginDescriptorCache.getCachedDescriptor(groupId, artifactId, version);
+		if (descriptor != null && !descriptor.goals().isEmpty()) {
+			return descriptor.goals().stream().map(PluginDescriptor.Goal::name).toArray(String[]::new);
+		}
+		return getKnownGoals(artifactId);
+	}
+
+	private static String[] getKnownGoals(String artifactId) {
+		final String[] goals = KNOWN_PLUGIN_GOALS.get(artifactId);
+		// For unknown plugins, provide common goals
+		return goals != null ? goals : new String[] { "help" };
+	}
+
+	@Override
+	public Object getParent() {
+		return this.pluginNode;
+	}
+
 	@Override
 	public String getDisplayName() {
 		// Display format: prefix:goal (e.g., "clean:clean", "compiler:compile")
@@ -132,6 +174,20 @@ public class MavenPluginGoalNode implements Displayable {
 		return goal;
 	}
 
+	/**
+	 * Returns the phase the goal is bound to by default or null.
+	 */
+	public String getPhase() {
+		return phase;
+	}
+
+	/**
+	 * Returns the description of the goal or null.
+	 */
+	public String getDescription() {
+		return description;
+	}
+
 	public MavenPluginNode getPluginNode() {
 		return pluginNode;
 	}
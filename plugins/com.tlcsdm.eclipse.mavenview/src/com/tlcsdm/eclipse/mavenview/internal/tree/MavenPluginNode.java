@@ -13,22 +13,30 @@ import com.tlcsdm.eclipse.mavenview.MavenViewImages;
  * Represents a single Maven plugin in the tree.
  * Shows the plugin name and coordinates (groupId:artifactId:version) as a styled label.
  */
-public class MavenPluginNode implements Displayable, Parentable {
+public class MavenPluginNode implements Displayable, Parentable, Childable {
 
+	private final MavenPluginsNode pluginsNode;
 	private final ProjectNode mavenProject;
 	private final String groupId;
 	private final String artifactId;
 	private final String version;
 	private final String prefix;
 
-	public MavenPluginNode(ProjectNode mavenProject, String groupId, String artifactId, String version, String prefix) {
-		this.mavenProject = mavenProject;
+	public MavenPluginNode(MavenPluginsNode pluginsNode, String groupId, String artifactId, String version,
+			String prefix) {
+		this.pluginsNode = Objects.requireNonNull(pluginsNode);
+		this.mavenProject = pluginsNode.getMavenProject();
 		this.groupId = Objects.requireNonNull(groupId);
 		this.artifactId = Objects.requireNonNull(artifactId);
 		this.version = version != null ? version : "";
 		this.prefix = prefix != null ? prefix : artifactId;
 	}
 
+	@Override
+	public Object getParent() {
+		return this.pluginsNode;
+	}
+
 	@Override
 	public String getDisplayName() {
 		return this.prefix;
@@ -64,10 +72,7 @@ public class MavenPluginNode implements Displayable, Parentable {
 	}
 
 	public IProject getProject() {
-		if (mavenProject != null) {
-			return mavenProject.getProjectResource();
-		}
-		return null;
+		return mavenProject.getProjectResource();
 	}
 
 	public ProjectNode getMavenProject() {
@@ -79,9 +84,15 @@ public class MavenPluginNode implements Displayable, Parentable {
 		return Activator.getImage(MavenViewImages.OBJ_PLUGIN);
 	}
 
+	@Override
+	public boolean isDeferred() {
+		// the goals are read from the plugin jar once
+		return !PluginDescriptorCache.isCached(groupId, artifactId, version);
+	}
+
 	@Override
 	public Object[] getChildren() {
-		// Return common Maven plugin goals based on the plugin
+		// Return the goals of the plugin
 		return MavenPluginGoalNode.createGoals(this);
 	}
 
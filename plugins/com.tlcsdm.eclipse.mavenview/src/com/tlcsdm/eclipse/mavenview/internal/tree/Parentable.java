@@ -3,4 +3,14 @@ package com.tlcsdm.eclipse.mavenview.internal.tree;
 public interface Parentable {
 
 	Object[] getChildren();
+
+	/**
+	 * Returns true if {@link #getChildren()} might block, e.g. because the Maven
+	 * model still has to be resolved. Children of such nodes are computed in the
+	 * background by {@link DeferredChildrenLoader}. Once the children were computed
+	 * the node is expected to answer false again.
+	 */
+	default boolean isDeferred() {
+		return false;
+	}
 }
@@ -0,0 +1,33 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import org.eclipse.swt.graphics.Image;
+
+import com.tlcsdm.eclipse.mavenview.Displayable;
+
+/**
+ * Placeholder shown as the only child of a node while its real children are
+ * computed in the background.
+ */
+public class PendingUpdateNode implements Displayable, Childable {
+
+	private final Object parent;
+
+	PendingUpdateNode(Object parent) {
+		this.parent = parent;
+	}
+
+	@Override
+	public Object getParent() {
+		return this.parent;
+	}
+
+	@Override
+	public String getDisplayName() {
+		return Messages.getString("PendingUpdate");
+	}
+
+	@Override
+	public Image getImage() {
+		return null;
+	}
+}
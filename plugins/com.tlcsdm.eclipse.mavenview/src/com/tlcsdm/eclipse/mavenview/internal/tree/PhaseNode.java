@@ -10,21 +10,31 @@ import com.tlcsdm.eclipse.mavenview.Displayable;
 import com.tlcsdm.eclipse.mavenview.MavenViewPreferences;
 import com.tlcsdm.eclipse.mavenview.Phase;
 
-public class PhaseNode implements Displayable {
+public class PhaseNode implements Displayable, Childable {
 
-	static PhaseNode[] createDisplayed(ProjectNode mavenProject) {
-		return Arrays.stream(MavenViewPreferences.getDisplayedPhases()).map(phase -> new PhaseNode(mavenProject, phase))
-				.toArray(PhaseNode[]::new);
+	static PhaseNode[] createDisplayed(ProjectNode mavenProject, Object parent) {
+		return Arrays.stream(MavenViewPreferences.getDisplayedPhases())
+				.map(phase -> new PhaseNode(mavenProject, parent, phase)).toArray(PhaseNode[]::new);
 	}
 
 	private final ProjectNode mavenProject;
+	private final Object parent;
 	private final Phase phase;
 
-	public PhaseNode(ProjectNode mavenProject, Phase phase) {
+	/**
+	 * @param parent either the project node itself or its {@link PhasesNode}
+	 */
+	public PhaseNode(ProjectNode mavenProject, Object parent, Phase phase) {
 		this.mavenProject = Objects.requireNonNull(mavenProject);
+		this.parent = Objects.requireNonNull(parent);
 		this.phase = Objects.requireNonNull(phase);
 	}
 
+	@Override
+	public Object getParent() {
+		return this.parent;
+	}
+
 	public Phase getPhase() {
 		return this.phase;
 	}
@@ -8,7 +8,7 @@ import com.tlcsdm.eclipse.mavenview.Activator;
 import com.tlcsdm.eclipse.mavenview.Displayable;
 import com.tlcsdm.eclipse.mavenview.MavenViewImages;
 
-public class PhasesNode implements Displayable, Parentable {
+public class PhasesNode implements Displayable, Parentable, Childable {
 
 	private final ProjectNode mavenProject;
 
@@ -16,6 +16,11 @@ public class PhasesNode implements Displayable, Parentable {
 		this.mavenProject = Objects.requireNonNull(mavenProject);
 	}
 
+	@Override
+	public Object getParent() {
+		return this.mavenProject;
+	}
+
 	@Override
 	public String getDisplayName() {
 		return Messages.getString("Phases");
@@ -28,7 +33,7 @@ public class PhasesNode implements Displayable, Parentable {
 
 	@Override
 	public Object[] getChildren() {
-		return PhaseNode.createDisplayed(this.mavenProject);
+		return PhaseNode.createDisplayed(this.mavenProject, this);
 	}
 
 	@Override
@@ -0,0 +1,7 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+/**
+ * A build plugin declared in the Maven model of a project.
+ */
+public record Plugin(String groupId, String artifactId, String version) {
+}
@@ -0,0 +1,19 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.List;
+
+/**
+ * The goals of a Maven plugin as declared in its
+ * <code>META-INF/maven/plugin.xml</code>.
+ */
+record PluginDescriptor(String goalPrefix, List<Goal> goals) {
+
+	/**
+	 * A goal (mojo) of the plugin.
+	 *
+	 * @param phase       the phase the goal is bound to by default or null
+	 * @param description the plain text description or null
+	 */
+	record Goal(String name, String phase, String description) {
+	}
+}
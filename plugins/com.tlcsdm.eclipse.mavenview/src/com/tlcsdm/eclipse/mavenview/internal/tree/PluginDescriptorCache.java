@@ -0,0 +1,269 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.m2e.core.MavenPlugin;
+
+import com.tlcsdm.eclipse.mavenview.Activator;
+
+/**
+ * Caches the {@link PluginDescriptor}s of the plugins in the local repository
+ * per <code>groupId:artifactId:version</code>. A released plugin version never
+ * changes, so each one is read only once; the descriptors are stored in the
+ * state location when the plug-in stops and read again when they are needed
+ * first. Descriptors of SNAPSHOT versions are neither stored nor cached.
+ * <p>
+ * Where the jar of a plugin is, or that it is missing, is remembered as well, so
+ * that the viewer asking whether a plugin node is deferred does not access the
+ * local repository. This is forgotten when all models are read again.
+ * </p>
+ */
+public final class PluginDescriptorCache {
+
+	static final String FILE_NAME = "pluginDescriptors.bin";
+
+	private static final int MAGIC = 0x4D565044; // "MVPD"
+	private static final int VERSION = 1;
+
+	private static final Map<String, PluginDescriptor> descriptors = new ConcurrentHashMap<>();
+	// The jars of the plugins in the local repository, empty if a jar is missing
+	private static final Map<String, Optional<Path>> pluginJars = new ConcurrentHashMap<>();
+
+	private static volatile boolean restored;
+
+	private PluginDescriptorCache() {
+		// hidden
+	}
+
+	/**
+	 * Stores the descriptors in the state location and forgets them.
+	 */
+	public static void disconnect() {
+		if (restored) {
+			try {
+				write(getCacheFile(), descriptors);
+			} catch (IOException e) {
+				Activator.getDefault().getLog().warn("Failed to write the plugin descriptor cache", e);
+			}
+		}
+		descriptors.clear();
+		pluginJars.clear();
+		restored = false;
+	}
+
+	/**
+	 * Forgets where the plugin jars are, e.g. because a build downloaded missing
+	 * plugins.
+	 */
+	public static void invalidatePluginJars() {
+		pluginJars.clear();
+	}
+
+	/**
+	 * Returns true if {@link #getDescriptor(String, String, String)} will answer
+	 * without reading the plugin jar, i.e. the descriptor is cached or the jar is
+	 * not in the local repository.
+	 */
+	static boolean isCached(String groupId, String artifactId, String version) {
+		restore();
+		return descriptors.containsKey(getKey(groupId, artifactId, version))
+				|| getPluginJar(groupId, artifactId, version) == null;
+	}
+
+	/**
+	 * Returns the descriptor of the plugin if it is cached, never reads the plugin
+	 * jar.
+	 */
+	static PluginDescriptor getCachedDescriptor(String groupId, String artifactId, String version) {
+		restore();
+		return descriptors.get(getKey(groupId, artifactId, version));
+	}
+
+	/**
+	 * Returns the descriptor of the plugin or null if the plugin jar is not in the
+	 * local repository or cannot be read.
+	 */
+	static PluginDescriptor getDescriptor(String groupId, String artifactId, String version) {
+		restore();
+		final String key = getKey(groupId, artifactId, version);
+		PluginDescriptor descriptor = descriptors.get(key);
+		if (descriptor != null) {
+			return descriptor;
+		}
+
+		final Path pluginJar = getPluginJar(groupId, artifactId, version);
+		if (pluginJar == null) {
+			return null;
+		}
+		try {
+			descriptor = PluginDescriptorReader.read(pluginJar);
+		} catch (IOException | XMLStreamException e) {
+			Activator.getDefault().getLog().warn("Failed to read the plugin descriptor of " + pluginJar, e);
+			return null;
+		}
+		if (!version.endsWith("-SNAPSHOT")) {
+			descriptors.put(key, descriptor);
+		}
+		return descriptor;
+	}
+
+	private static void restore() {
+		if (restored) {
+			return;
+		}
+		synchronized (PluginDescriptorCache.class) {
+			if (restored) {
+				return;
+			}
+			final Path cacheFile = getCacheFile();
+			if (Files.exists(cacheFile)) {
+				try {
+					read(cacheFile).forEach(descriptors::putIfAbsent);
+				} catch (IOException e) {
+					Activator.getDefault().getLog().warn("Discarding the plugin descriptor cache", e);
+				}
+			}
+			restored = true;
+		}
+	}
+
+	private static Path getCacheFile() {
+		return Activator.getDefault().getStateLocation().append(FILE_NAME).toFile().toPath();
+	}
+
+	/**
+	 * Returns the jar of the plugin in the local repository or null.
+	 */
+	private static Path getPluginJar(String groupId, String artifactId, String version) {
+		if (version == null || version.isEmpty()) {
+			return null;
+		}
+		return pluginJars.computeIfAbsent(getKey(groupId, artifactId, version),
+				key -> Optional.ofNullable(findPluginJar(groupId, artifactId, version))).orElse(null);
+	}
+
+	private static Path findPluginJar(String groupId, String artifactId, String version) {
+		final File localRepository = MavenPlugin.getMaven().getLocalRepositoryPath();
+		if (localRepository == null) {
+			return null;
+		}
+		final Path pluginJar = localRepository.toPath().resolve(groupId.replace('.', '/')).resolve(artifactId)
+				.resolve(version).resolve(artifactId + '-' + version + ".jar");
+		return Files.isRegularFile(pluginJar) ? pluginJar : null;
+	}
+
+	private static String getKey(String groupId, String artifactId, String version) {
+		return groupId + ':' + artifactId + ':' + version;
+	}
+
+	/**
+	 * Reads the descriptors of the file, which must exist.
+	 *
+	 * @throws IOException if the file cannot be read, has another format version
+	 *                     or is corrupt
+	 */
+	static Map<String, PluginDescriptor> read(Path file) throws IOException {
+		final CRC32C checksum = new CRC32C();
+		try (DataInputStream in = new DataInputStream(
+				new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)), checksum))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not a plugin descriptor cache: " + file);
+			}
+			final int version = in.readInt();
+			if (version != VERSION) {
+				throw new IOException("Unsupported plugin descriptor cache version " + version + ": " + file);
+			}
+
+			final int count = readCount(in);
+			final Map<String, PluginDescriptor> result = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				final String key = in.readUTF();
+				final String goalPrefix = readNullable(in);
+				final List<PluginDescriptor.Goal> goals = new ArrayList<>();
+				for (int goalCount = readCount(in); goals.size() < goalCount;) {
+					goals.add(new PluginDescriptor.Goal(in.readUTF(), readNullable(in), readNullable(in)));
+				}
+				result.put(key, new PluginDescriptor(goalPrefix, goals));
+			}
+			final long expectedChecksum = checksum.getValue();
+			if (in.readLong() != expectedChecksum) {
+				throw new IOException("Corrupt plugin descriptor cache, wrong checksum: " + file);
+			}
+			return result;
+		} catch (RuntimeException e) {
+			// e.g. a corrupt string
+			throw new IOException("Corrupt plugin descriptor cache: " + file, e);
+		}
+	}
+
+	/**
+	 * Replaces the file with the descriptors, see
+	 * {@link ProjectModelIndex#write(Path, java.util.Collection)}.
+	 */
+	static void write(Path file, Map<String, PluginDescriptor> descriptors) throws IOException {
+		final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+		final CRC32C checksum = new CRC32C();
+		try (DataOutputStream out = new DataOutputStream(
+				new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)), checksum))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(descriptors.size());
+			for (final Map.Entry<String, PluginDescriptor> entry : descriptors.entrySet()) {
+				out.writeUTF(entry.getKey());
+				writeNullable(out, entry.getValue().goalPrefix());
+				out.writeInt(entry.getValue().goals().size());
+				for (final PluginDescriptor.Goal goal : entry.getValue().goals()) {
+					out.writeUTF(goal.name());
+					writeNullable(out, goal.phase());
+					writeNullable(out, goal.description());
+				}
+			}
+			out.writeLong(checksum.getValue());
+		}
+		try {
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static String readNullable(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeNullable(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static int readCount(DataInputStream in) throws IOException {
+		final int count = in.readInt();
+		// a corrupt count must not allocate huge maps
+		if (count < 0 || count > 1_000_000) {
+			throw new IOException("Corrupt plugin descriptor cache, invalid count " + count);
+		}
+		return count;
+	}
+}
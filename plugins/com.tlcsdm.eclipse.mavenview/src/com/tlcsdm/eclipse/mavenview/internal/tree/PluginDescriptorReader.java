@@ -0,0 +1,133 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.tlcsdm.eclipse.mavenview.internal.common.SecureXmlParser;
+
+/**
+ * Reads the goal prefix and the goals of a Maven plugin from the
+ * <code>META-INF/maven/plugin.xml</code> of its jar. The descriptor is streamed
+ * out of the jar, nothing is extracted, and only the elements directly below
+ * <code>plugin</code> and <code>mojo</code> are looked at, e.g. the parameters
+ * of the mojos are skipped.
+ */
+final class PluginDescriptorReader {
+
+	static final String DESCRIPTOR_ENTRY = "META-INF/maven/plugin.xml";
+
+	// Descriptions are shown as tool tips only
+	private static final int MAX_DESCRIPTION_LENGTH = 500;
+	private static final Pattern TAGS = Pattern.compile("<[^>]*>");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private PluginDescriptorReader() {
+		// hidden
+	}
+
+	/**
+	 * Reads the descriptor of the plugin jar.
+	 *
+	 * @throws IOException if the jar cannot be read or has no descriptor
+	 */
+	static PluginDescriptor read(Path pluginJar) throws IOException, XMLStreamException {
+		try (ZipFile zipFile = new ZipFile(pluginJar.toFile())) {
+			final ZipEntry entry = zipFile.getEntry(DESCRIPTOR_ENTRY);
+			if (entry == null) {
+				throw new IOException("No plugin descriptor in " + pluginJar);
+			}
+			try (InputStream contents = zipFile.getInputStream(entry)) {
+				return read(contents);
+			}
+		}
+	}
+
+	/**
+	 * Reads the descriptor from the stream, which is not closed.
+	 */
+	static PluginDescriptor read(InputStream descriptorContents) throws XMLStreamException {
+		final XMLStreamReader reader = SecureXmlParser.getSecureXmlInputFactory()
+				.createXMLStreamReader(descriptorContents);
+		try {
+			String goalPrefix = null;
+			final List<PluginDescriptor.Goal> goals = new ArrayList<>();
+
+			// /plugin is depth 1, /plugin/mojos/mojo depth 3
+			int depth = 0;
+			boolean inMojo = false;
+			String goal = null;
+			String phase = null;
+			String description = null;
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					depth++;
+					final String name = reader.getLocalName();
+					if (depth == 2 && "goalPrefix".equals(name)) {
+						goalPrefix = reader.getElementText().trim();
+						depth--;
+					} else if (depth == 3 && "mojo".equals(name)) {
+						inMojo = true;
+						goal = null;
+						phase = null;
+						description = null;
+					} else if (inMojo && depth == 4) {
+						switch (name) {
+						case "goal":
+							goal = reader.getElementText().trim();
+							depth--;
+							break;
+						case "phase":
+							phase = reader.getElementText().trim();
+							depth--;
+							break;
+						case "description":
+							description = toPlainText(reader.getElementText());
+							depth--;
+							break;
+						default:
+							break;
+						}
+					}
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					if (depth == 3 && inMojo) {
+						inMojo = false;
+						if (goal != null && !goal.isEmpty()) {
+							goals.add(new PluginDescriptor.Goal(goal, emptyToNull(phase), description));
+						}
+					}
+					depth--;
+					break;
+				default:
+					break;
+				}
+			}
+			return new PluginDescriptor(emptyToNull(goalPrefix), goals);
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static String toPlainText(String html) {
+		final String text = WHITESPACE.matcher(TAGS.matcher(html).replaceAll(" ")).replaceAll(" ").trim();
+		if (text.isEmpty()) {
+			return null;
+		}
+		return text.length() > MAX_DESCRIPTION_LENGTH ? text.substring(0, MAX_DESCRIPTION_LENGTH - 3) + "..." : text;
+	}
+
+	private static String emptyToNull(String value) {
+		return value == null || value.isEmpty() ? null : value;
+	}
+}
@@ -0,0 +1,182 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.tlcsdm.eclipse.mavenview.internal.common.SecureXmlParser;
+
+/**
+ * Reads the profiles, direct dependencies and build plugins of a pom.xml in a
+ * single streaming pass. Elements are matched by their full path, so e.g. the
+ * dependencies of <code>dependencyManagement</code>, of profiles or of plugins
+ * are skipped.
+ * <p>
+ * This only sees the local pom.xml, i.e. nothing inherited from parent POMs.
+ * </p>
+ */
+final class PomSummaryReader {
+
+	private static final String DEFAULT_PLUGIN_GROUP_ID = "org.apache.maven.plugins";
+
+	private static final String PROFILE = "/project/profiles/profile";
+	private static final String PROFILE_ACTIVATION = PROFILE + "/activation";
+	private static final String DEPENDENCY = "/project/dependencies/dependency";
+	private static final String PLUGIN = "/project/build/plugins/plugin";
+
+	private final List<Profile> profiles = new ArrayList<>();
+	private final List<Dependency> dependencies = new ArrayList<>();
+	private final List<Plugin> plugins = new ArrayList<>();
+
+	// Values of the profile, dependency or plugin element that is currently read
+	private String id;
+	private boolean activeByDefault;
+	private String groupId;
+	private String artifactId;
+	private String version;
+	private String scope;
+
+	private PomSummaryReader() {
+		// hidden
+	}
+
+	/**
+	 * Reads the pom.xml from the stream, which is not closed.
+	 */
+	static ProjectModelSnapshot read(InputStream pomContents, long modificationStamp) throws XMLStreamException {
+		final XMLStreamReader reader = SecureXmlParser.getSecureXmlInputFactory().createXMLStreamReader(pomContents);
+		try {
+			final PomSummaryReader summaryReader = new PomSummaryReader();
+			summaryReader.readElements(reader);
+			return new ProjectModelSnapshot(modificationStamp, summaryReader.profiles.toArray(new Profile[0]),
+					summaryReader.plugins.toArray(new Plugin[0]), summaryReader.dependencies.toArray(new Dependency[0]));
+		} finally {
+			reader.close();
+		}
+	}
+
+	private void readElements(XMLStreamReader reader) throws XMLStreamException {
+		// Paths of the open elements, e.g. "/project/build"
+		final Deque<String> paths = new ArrayDeque<>();
+		paths.push("");
+
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+			case XMLStreamConstants.START_ELEMENT:
+				final String parentPath = paths.peek();
+				final String name = reader.getLocalName();
+				if (readValue(reader, parentPath, name)) {
+					// the whole element was consumed
+					break;
+				}
+
+				final String path = parentPath + '/' + name;
+				startElement(path);
+				paths.push(path);
+				break;
+			case XMLStreamConstants.END_ELEMENT:
+				endElement(paths.pop());
+				break;
+			default:
+				// whitespace, comments and so on
+				break;
+			}
+		}
+	}
+
+	private void startElement(String path) {
+		switch (path) {
+		case PROFILE:
+			this.id = null;
+			this.activeByDefault = false;
+			break;
+		case DEPENDENCY:
+		case PLUGIN:
+			this.groupId = null;
+			this.artifactId = null;
+			this.version = null;
+			this.scope = null;
+			break;
+		default:
+			break;
+		}
+	}
+
+	private boolean readValue(XMLStreamReader reader, String parentPath, String name) throws XMLStreamException {
+		switch (parentPath) {
+		case PROFILE:
+			if ("id".equals(name)) {
+				this.id = reader.getElementText().trim();
+				return true;
+			}
+			return false;
+		case PROFILE_ACTIVATION:
+			if ("activeByDefault".equals(name)) {
+				this.activeByDefault = "true".equalsIgnoreCase(reader.getElementText().trim());
+				return true;
+			}
+			return false;
+		case DEPENDENCY:
+		case PLUGIN:
+			switch (name) {
+			case "groupId":
+				this.groupId = reader.getElementText().trim();
+				return true;
+			case "artifactId":
+				this.artifactId = reader.getElementText().trim();
+				return true;
+			case "version":
+				this.version = reader.getElementText().trim();
+				return true;
+			case "scope":
+				this.scope = reader.getElementText().trim();
+				return true;
+			default:
+				return false;
+			}
+		default:
+			return false;
+		}
+	}
+
+	private void endElement(String path) {
+		switch (path) {
+		case PROFILE:
+			// Skip profiles with empty IDs
+			if (this.id != null && !this.id.isEmpty()) {
+				this.profiles.add(new Profile(this.id, this.activeByDefault));
+			}
+			break;
+		case DEPENDENCY:
+			// Skip dependencies with empty groupId or artifactId
+			if (!isEmpty(this.groupId) && !isEmpty(this.artifactId)) {
+				this.dependencies.add(new Dependency(this.groupId, this.artifactId, nonNull(this.version), this.scope));
+			}
+			break;
+		case PLUGIN:
+			// Skip plugins with empty artifactId, the groupId defaults to
+			// org.apache.maven.plugins
+			if (!isEmpty(this.artifactId)) {
+				this.plugins.add(new Plugin(this.groupId != null ? this.groupId : DEFAULT_PLUGIN_GROUP_ID,
+						this.artifactId, nonNull(this.version)));
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	private static boolean isEmpty(String value) {
+		return value == null || value.isEmpty();
+	}
+
+	private static String nonNull(String value) {
+		return value != null ? value : "";
+	}
+}
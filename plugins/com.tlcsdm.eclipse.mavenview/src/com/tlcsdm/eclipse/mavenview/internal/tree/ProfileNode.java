@@ -11,18 +11,25 @@ import com.tlcsdm.eclipse.mavenview.Displayable;
 /**
  * Represents a Maven profile node in the tree view.
  */
-public class ProfileNode implements Displayable {
+public class ProfileNode implements Displayable, Childable {
 
+	private final ProfilesNode profilesNode;
 	private final ProjectNode projectNode;
 	private final Profile profile;
 	private boolean selected;
 
-	public ProfileNode(ProjectNode projectNode, Profile profile, boolean selected) {
-		this.projectNode = Objects.requireNonNull(projectNode);
+	public ProfileNode(ProfilesNode profilesNode, Profile profile, boolean selected) {
+		this.profilesNode = Objects.requireNonNull(profilesNode);
+		this.projectNode = profilesNode.getProjectNode();
 		this.profile = Objects.requireNonNull(profile);
 		this.selected = selected;
 	}
 
+	@Override
+	public Object getParent() {
+		return this.profilesNode;
+	}
+
 	public Profile getProfile() {
 		return this.profile;
 	}
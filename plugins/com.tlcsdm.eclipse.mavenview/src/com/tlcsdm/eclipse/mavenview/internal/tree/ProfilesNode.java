@@ -11,18 +11,25 @@ import com.tlcsdm.eclipse.mavenview.MavenViewImages;
 /**
  * Represents the "Profiles" node in the tree view that contains all profile children.
  */
-public class ProfilesNode implements Displayable, Parentable {
+public class ProfilesNode implements Displayable, Parentable, Childable {
 
 	private final ProjectNode projectNode;
-	private final Profile[] profiles;
 	private final String[] selectedProfiles;
 
-	public ProfilesNode(ProjectNode projectNode, Profile[] profiles, String[] selectedProfiles) {
+	public ProfilesNode(ProjectNode projectNode, String[] selectedProfiles) {
 		this.projectNode = Objects.requireNonNull(projectNode);
-		this.profiles = Objects.requireNonNull(profiles);
 		this.selectedProfiles = selectedProfiles != null ? selectedProfiles : new String[0];
 	}
 
+	public ProjectNode getProjectNode() {
+		return this.projectNode;
+	}
+
+	@Override
+	public Object getParent() {
+		return this.projectNode;
+	}
+
 	@Override
 	public String getDisplayName() {
 		return Messages.getString("Profiles");
@@ -33,12 +40,18 @@ public class ProfilesNode implements Displayable, Parentable {
 		return Activator.getImage(MavenViewImages.OBJ_PROFILE);
 	}
 
+	@Override
+	public boolean isDeferred() {
+		return !ProjectModelCache.isCurrent(this.projectNode.getProjectResource());
+	}
+
 	@Override
 	public Object[] getChildren() {
-		final ProfileNode[] children = new ProfileNode[this.profiles.length];
-		for (int i = 0; i < this.profiles.length; i++) {
-			boolean selected = isProfileSelected(this.profiles[i].getId());
-			children[i] = new ProfileNode(this.projectNode, this.profiles[i], selected);
+		final Profile[] profiles = ProjectModelCache.getSnapshot(this.projectNode.getProjectResource()).getProfiles();
+		final ProfileNode[] children = new ProfileNode[profiles.length];
+		for (int i = 0; i < profiles.length; i++) {
+			boolean selected = isProfileSelected(profiles[i].getId());
+			children[i] = new ProfileNode(this, profiles[i], selected);
 		}
 		return children;
 	}
@@ -0,0 +1,176 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.AbstractTreeViewer;
+import org.eclipse.jface.viewers.ITreeViewerListener;
+import org.eclipse.jface.viewers.TreeExpansionEvent;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Listener;
+
+/**
+ * Expands all nodes of a tree without blocking the UI thread. A {@link Job}
+ * computes the children level by level, breadth first, and the nodes of a
+ * level are expanded in batches of {@link #BATCH_SIZE} as soon as their
+ * children are known, so the tree grows while the job is running.
+ * <p>
+ * Pressing Esc in the tree, collapsing a node, starting another expansion or
+ * disposing the expander cancels the job. The methods have to be called from
+ * the UI thread.
+ * </p>
+ */
+public class ProgressiveTreeExpander {
+
+	/**
+	 * Number of nodes expanded per round trip to the UI thread.
+	 */
+	static final int BATCH_SIZE = 50;
+
+	private final AbstractTreeViewer viewer;
+	private ExpandJob job;
+
+	private final Listener escapeListener = event -> {
+		if (event.keyCode == SWT.ESC) {
+			cancel();
+		}
+	};
+
+	private final ITreeViewerListener collapseListener = new ITreeViewerListener() {
+
+		@Override
+		public void treeExpanded(TreeExpansionEvent event) {
+			// expanding more nodes does not interfere with the job
+		}
+
+		@Override
+		public void treeCollapsed(TreeExpansionEvent event) {
+			cancel();
+		}
+	};
+
+	public ProgressiveTreeExpander(AbstractTreeViewer viewer) {
+		this.viewer = viewer;
+		this.viewer.addTreeListener(this.collapseListener);
+		this.viewer.getControl().addListener(SWT.KeyDown, this.escapeListener);
+	}
+
+	/**
+	 * Expands the elements and all their descendants, a running expansion is
+	 * cancelled first.
+	 */
+	public void expandAll(Object[] elements) {
+		cancel();
+		this.job = new ExpandJob(elements);
+		this.job.schedule();
+	}
+
+	/**
+	 * Stops expanding, the nodes expanded so far stay expanded.
+	 */
+	public void cancel() {
+		if (this.job != null) {
+			this.job.cancel();
+			this.job = null;
+		}
+	}
+
+	public void dispose() {
+		cancel();
+		final Control control = this.viewer.getControl();
+		if (control != null && !control.isDisposed()) {
+			this.viewer.removeTreeListener(this.collapseListener);
+			control.removeListener(SWT.KeyDown, this.escapeListener);
+		}
+	}
+
+	private class ExpandJob extends Job {
+
+		private final Object[] elements;
+		private final Display display;
+
+		ExpandJob(Object[] elements) {
+			super(Messages.getString("ExpandAllJob"));
+			this.elements = elements;
+			this.display = ProgressiveTreeExpander.this.viewer.getControl().getDisplay();
+			setUser(true);
+			setPriority(Job.SHORT);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			final SubMonitor subMonitor = SubMonitor.convert(monitor, getName(), this.elements.length);
+			List<Object> level = Arrays.asList(this.elements);
+			while (!level.isEmpty()) {
+				subMonitor.setWorkRemaining(level.size());
+				final List<Object> nextLevel = new ArrayList<>();
+				final List<Object> batch = new ArrayList<>(BATCH_SIZE);
+				for (final Object element : level) {
+					if (subMonitor.isCanceled()) {
+						return Status.CANCEL_STATUS;
+					}
+					if (element instanceof Parentable) {
+						// computing the children here lets the content provider answer them
+						// right away when the node is expanded
+						final Object[] children = ((Parentable) element).getChildren();
+						if (children.length > 0) {
+							batch.add(element);
+							nextLevel.addAll(Arrays.asList(children));
+						}
+					}
+					if (batch.size() >= BATCH_SIZE && !expand(batch)) {
+						return Status.CANCEL_STATUS;
+					}
+					subMonitor.worked(1);
+				}
+				if (!expand(batch)) {
+					return Status.CANCEL_STATUS;
+				}
+				level = nextLevel;
+			}
+			return Status.OK_STATUS;
+		}
+
+		/**
+		 * Expands the nodes of the batch in the UI thread and clears it. Waiting for
+		 * the UI thread keeps the job from running ahead of the tree. Returns false
+		 * if the job was cancelled or the tree disposed.
+		 */
+		private boolean expand(List<Object> batch) {
+			if (batch.isEmpty()) {
+				return true;
+			}
+			if (this.display.isDisposed()) {
+				return false;
+			}
+			final Object[] elementsToExpand = batch.toArray();
+			batch.clear();
+			final boolean[] expanded = new boolean[1];
+			this.display.syncExec(() -> {
+				final Control control = ProgressiveTreeExpander.this.viewer.getControl();
+				// a cancelled job must not expand anything, e.g. after a collapse
+				if (ProgressiveTreeExpander.this.job != this || control.isDisposed()) {
+					return;
+				}
+				control.setRedraw(false);
+				try {
+					for (final Object element : elementsToExpand) {
+						ProgressiveTreeExpander.this.viewer.expandToLevel(element, 1);
+					}
+				} finally {
+					control.setRedraw(true);
+				}
+				expanded[0] = true;
+			});
+			return expanded[0];
+		}
+	}
+}
@@ -0,0 +1,332 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.IMavenProjectRegistry;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
+
+import com.tlcsdm.eclipse.mavenview.Activator;
+import com.tlcsdm.eclipse.mavenview.MavenRunner;
+
+/**
+ * Caches one {@link ProjectModelSnapshot} per project, so that all tree nodes
+ * of a project share a single model lookup. A snapshot stays valid as long as
+ * the modification stamp of the project's pom.xml does not change and m2e does
+ * not report a change of the project's facade, e.g. because a parent POM or the
+ * settings changed.
+ * <p>
+ * The snapshots are stored in a {@link ProjectModelIndex} when the plug-in
+ * stops and restored when it starts again. Restored snapshots are used right
+ * away and compared to the content of their pom.xml in the background.
+ * </p>
+ */
+public final class ProjectModelCache {
+
+	// Snapshots per project name
+	private static final Map<String, ProjectModelSnapshot> snapshots = new ConcurrentHashMap<>();
+
+	// Content hashes of the pom.xml files the snapshots were read from
+	private static final Map<String, Long> contentHashes = new ConcurrentHashMap<>();
+
+	// Projects with a snapshot from the index that was not verified yet
+	private static final Set<String> unverifiedProjects = ConcurrentHashMap.newKeySet();
+
+	private static final List<Consumer<IProject>> listeners = new CopyOnWriteArrayList<>();
+
+	private static final Job verifyIndexJob = Job.createSystem(Messages.getString("VerifyProjectModelIndexJob"),
+			monitor -> {
+				verifyRestoredSnapshots(monitor);
+			});
+
+	// Forgets the snapshots of projects that m2e has read again
+	private static final IMavenProjectChangedListener mavenProjectListener = (events, monitor) -> {
+		for (final MavenProjectChangedEvent event : events) {
+			invalidate(event.getSource().getProject());
+		}
+	};
+
+	private ProjectModelCache() {
+		// hidden
+	}
+
+	/**
+	 * Restores the snapshots of the index and starts listening to changes of the
+	 * m2e project registry.
+	 */
+	public static void connect() {
+		restoreIndex();
+		MavenPlugin.getMavenProjectRegistry().addMavenProjectChangedListener(mavenProjectListener);
+	}
+
+	/**
+	 * Stops listening to changes of the m2e project registry, stores the snapshots
+	 * in the index and forgets them.
+	 */
+	public static void disconnect() {
+		MavenPlugin.getMavenProjectRegistry().removeMavenProjectChangedListener(mavenProjectListener);
+		verifyIndexJob.cancel();
+		saveIndex();
+		invalidateAll();
+		DependencyUsageIndex.clear();
+	}
+
+	/**
+	 * Adds a listener that is notified from a background thread if the snapshot of
+	 * a project was dropped without a change of the pom.xml or an m2e event, e.g.
+	 * because a restored snapshot turned out to be outdated.
+	 */
+	public static void addListener(Consumer<IProject> listener) {
+		listeners.add(listener);
+	}
+
+	public static void removeListener(Consumer<IProject> listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Returns the model snapshot of the project, reading it if there is no
+	 * snapshot yet or the pom.xml was modified since it was read.
+	 */
+	public static ProjectModelSnapshot getSnapshot(IProject project) {
+		final IFile pomFile = getPomFile(project);
+		final long modificationStamp = pomFile.getModificationStamp();
+
+		ProjectModelSnapshot snapshot = snapshots.get(project.getName());
+		if (snapshot == null || snapshot.getModificationStamp() != modificationStamp) {
+			snapshot = readSnapshot(project, pomFile, modificationStamp);
+			snapshots.put(project.getName(), snapshot);
+			contentHashes.put(project.getName(), ProjectModelIndex.hash(pomFile));
+			unverifiedProjects.remove(project.getName());
+		}
+		// restored snapshots are indexed on first use as well
+		DependencyUsageIndex.update(project.getName(), snapshot);
+		return snapshot;
+	}
+
+	/**
+	 * Returns the snapshot of the project if it matches the current pom.xml,
+	 * otherwise null. Never reads the model.
+	 */
+	public static ProjectModelSnapshot getCachedSnapshot(IProject project) {
+		final ProjectModelSnapshot snapshot = snapshots.get(project.getName());
+		if (snapshot == null || snapshot.getModificationStamp() != getPomFile(project).getModificationStamp()) {
+			return null;
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Returns true if there is a snapshot for the project that matches the current
+	 * pom.xml, i.e. {@link #getSnapshot(IProject)} will not need to read the model.
+	 */
+	public static boolean isCurrent(IProject project) {
+		final ProjectModelSnapshot snapshot = snapshots.get(project.getName());
+		return snapshot != null && snapshot.getModificationStamp() == getPomFile(project).getModificationStamp();
+	}
+
+	/**
+	 * Forgets the snapshot and the resolved dependencies of the project.
+	 */
+	public static void invalidate(IProject project) {
+		ResolvedDependencyCache.invalidate(project);
+		snapshots.remove(project.getName());
+		contentHashes.remove(project.getName());
+		unverifiedProjects.remove(project.getName());
+	}
+
+	/**
+	 * Forgets all snapshots and resolved dependencies.
+	 */
+	public static void invalidateAll() {
+		ResolvedDependencyCache.invalidateAll();
+		PluginDescriptorCache.invalidatePluginJars();
+		snapshots.clear();
+		contentHashes.clear();
+		unverifiedProjects.clear();
+	}
+
+	private static java.nio.file.Path getIndexFile() {
+		return Activator.getDefault().getStateLocation().append(ProjectModelIndex.FILE_NAME).toFile().toPath();
+	}
+
+	private static void restoreIndex() {
+		final java.nio.file.Path indexFile = getIndexFile();
+		if (!Files.exists(indexFile)) {
+			return;
+		}
+
+		final List<ProjectModelIndex.Entry> entries;
+		try {
+			entries = ProjectModelIndex.read(indexFile);
+		} catch (IOException e) {
+			// the index is rebuilt when the view is opened and written again on shutdown
+			Activator.getDefault().getLog().warn("Discarding the project model index", e);
+			return;
+		}
+
+		final IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		for (final ProjectModelIndex.Entry entry : entries) {
+			final IProject project = root.getProject(entry.projectName());
+			if (!project.isAccessible()) {
+				continue;
+			}
+			final IFile pomFile = getPomFile(project);
+			final IPath pomLocation = pomFile.getLocation();
+			if (pomLocation == null || !pomLocation.toOSString().equals(entry.pomLocation())
+					|| pomFile.getModificationStamp() != entry.snapshot().getModificationStamp()) {
+				// stale
+				continue;
+			}
+			if (snapshots.putIfAbsent(entry.projectName(), entry.snapshot()) == null) {
+				contentHashes.put(entry.projectName(), entry.contentHash());
+				unverifiedProjects.add(entry.projectName());
+			}
+		}
+
+		if (!unverifiedProjects.isEmpty()) {
+			verifyIndexJob.schedule();
+		}
+	}
+
+	private static void saveIndex() {
+		final IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		final List<ProjectModelIndex.Entry> entries = new ArrayList<>(snapshots.size());
+		for (final Map.Entry<String, ProjectModelSnapshot> snapshot : snapshots.entrySet()) {
+			final Long contentHash = contentHashes.get(snapshot.getKey());
+			final IProject project = root.getProject(snapshot.getKey());
+			if (contentHash == null || contentHash == ProjectModelIndex.NO_HASH || !project.isAccessible()) {
+				continue;
+			}
+			final IPath pomLocation = getPomFile(project).getLocation();
+			if (pomLocation != null) {
+				entries.add(new ProjectModelIndex.Entry(snapshot.getKey(), pomLocation.toOSString(), contentHash,
+						snapshot.getValue()));
+			}
+		}
+
+		try {
+			ProjectModelIndex.write(getIndexFile(), entries);
+		} catch (IOException e) {
+			Activator.getDefault().getLog().warn("Failed to write the project model index", e);
+		}
+	}
+
+	/**
+	 * Drops the restored snapshots whose pom.xml has another content than the one
+	 * they were read from.
+	 */
+	private static void verifyRestoredSnapshots(IProgressMonitor monitor) {
+		final IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		for (final String projectName : unverifiedProjects) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			if (!unverifiedProjects.remove(projectName)) {
+				// read again in the meantime
+				continue;
+			}
+
+			final IProject project = root.getProject(projectName);
+			final Long contentHash = contentHashes.get(projectName);
+			if (contentHash != null && project.isAccessible()
+					&& ProjectModelIndex.hash(getPomFile(project)) == contentHash) {
+				continue;
+			}
+
+			invalidate(project);
+			for (final Consumer<IProject> listener : listeners) {
+				listener.accept(project);
+			}
+		}
+	}
+
+	private static IFile getPomFile(IProject project) {
+		return project.getFile(new Path(MavenRunner.POM_FILE_NAME));
+	}
+
+	private static ProjectModelSnapshot readSnapshot(IProject project, IFile pomFile, long modificationStamp) {
+		try {
+			// Use M2E to get the Maven project facade which includes effective model
+			final IMavenProjectRegistry projectManager = MavenPlugin.getMavenProjectRegistry();
+			final IMavenProjectFacade projectFacade = projectManager.create(pomFile, false, new NullProgressMonitor());
+
+			if (projectFacade == null) {
+				return emptySnapshot(modificationStamp);
+			}
+
+			if (!MavenModelAccessor.isAvailable()) {
+				return readSnapshotFromXml(pomFile, modificationStamp);
+			}
+
+			final Object mavenProject = projectFacade.getMavenProject(new NullProgressMonitor());
+			if (mavenProject == null) {
+				return emptySnapshot(modificationStamp);
+			}
+			return readSnapshot(mavenProject, modificationStamp, () -> readSnapshotFromXml(pomFile, modificationStamp));
+		} catch (Exception e) {
+			Activator.getDefault().getLog().error("Failed to read Maven model for project " + project.getName(), e);
+		}
+		return emptySnapshot(modificationStamp);
+	}
+
+	/**
+	 * Reads the snapshot from the Maven project of m2e, or from the fallback if
+	 * the Maven model cannot be accessed.
+	 */
+	static ProjectModelSnapshot readSnapshot(Object mavenProject, long modificationStamp,
+			Supplier<ProjectModelSnapshot> fallback) {
+		if (!MavenModelAccessor.isAvailable()) {
+			return fallback.get();
+		}
+		try {
+			final Object model = MavenModelAccessor.getModel(mavenProject);
+			if (model == null) {
+				return emptySnapshot(modificationStamp);
+			}
+
+			return new ProjectModelSnapshot(modificationStamp, MavenModelAccessor.getProfiles(model),
+					MavenModelAccessor.getBuildPlugins(mavenProject), MavenModelAccessor.getDependencies(model));
+		} catch (MavenModelAccessor.UnavailableException e) {
+			// the accessor already logged why, fall back to XML parsing of local pom.xml
+			return fallback.get();
+		}
+	}
+
+	private static ProjectModelSnapshot readSnapshotFromXml(IFile pomFile, long modificationStamp) {
+		if (!pomFile.exists()) {
+			return emptySnapshot(modificationStamp);
+		}
+		try (InputStream contents = pomFile.getContents()) {
+			return PomSummaryReader.read(contents, modificationStamp);
+		} catch (Exception e) {
+			Activator.getDefault().getLog().error("Failed to parse POM XML " + pomFile.getFullPath(), e);
+		}
+		return emptySnapshot(modificationStamp);
+	}
+
+	private static ProjectModelSnapshot emptySnapshot(long modificationStamp) {
+		return new ProjectModelSnapshot(modificationStamp, new Profile[0], new Plugin[0], new Dependency[0]);
+	}
+}
@@ -0,0 +1,201 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Binary file with the {@link ProjectModelSnapshot}s of all projects, so that
+ * the tree can be shown right after the start of the workbench without reading
+ * the Maven model of every project.
+ * <p>
+ * An entry is only valid as long as the pom.xml has the same location,
+ * modification stamp and content hash. The file starts with a magic number and
+ * a format version and ends with a checksum, a file with another version or a
+ * wrong checksum is ignored as a whole.
+ * </p>
+ */
+final class ProjectModelIndex {
+
+	/**
+	 * The snapshot of a project and the pom.xml it was read from.
+	 */
+	record Entry(String projectName, String pomLocation, long contentHash, ProjectModelSnapshot snapshot) {
+	}
+
+	static final String FILE_NAME = "projectModelIndex.bin";
+
+	/**
+	 * Content hash of a pom.xml that could not be read, it never matches.
+	 */
+	static final long NO_HASH = -1;
+
+	private static final int MAGIC = 0x4D564958; // "MVIX"
+	private static final int VERSION = 1;
+
+	private ProjectModelIndex() {
+		// hidden
+	}
+
+	/**
+	 * Returns the hash of the content of the pom.xml or {@link #NO_HASH}.
+	 */
+	static long hash(IFile pomFile) {
+		try (InputStream contents = pomFile.getContents(true)) {
+			return hash(contents);
+		} catch (CoreException | IOException e) {
+			return NO_HASH;
+		}
+	}
+
+	static long hash(InputStream contents) throws IOException {
+		final CRC32C checksum = new CRC32C();
+		final byte[] buffer = new byte[8192];
+		int read;
+		while ((read = contents.read(buffer)) != -1) {
+			checksum.update(buffer, 0, read);
+		}
+		return checksum.getValue();
+	}
+
+	/**
+	 * Reads the entries of the file, which must exist.
+	 *
+	 * @throws IOException if the file cannot be read, has another format version
+	 *                     or is corrupt
+	 */
+	static List<Entry> read(Path file) throws IOException {
+		final CRC32C checksum = new CRC32C();
+		try (DataInputStream in = new DataInputStream(
+				new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)), checksum))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not a project model index: " + file);
+			}
+			final int version = in.readInt();
+			if (version != VERSION) {
+				throw new IOException("Unsupported project model index version " + version + ": " + file);
+			}
+
+			final int count = readCount(in);
+			final List<Entry> result = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				result.add(readEntry(in));
+			}
+			final long expectedChecksum = checksum.getValue();
+			if (in.readLong() != expectedChecksum) {
+				throw new IOException("Corrupt project model index, wrong checksum: " + file);
+			}
+			if (in.read() != -1) {
+				throw new IOException("Unexpected content at the end of " + file);
+			}
+			return result;
+		} catch (RuntimeException e) {
+			// e.g. a corrupt string
+			throw new IOException("Corrupt project model index: " + file, e);
+		}
+	}
+
+	/**
+	 * Replaces the file with the entries. The file is written to a temporary file
+	 * first, so that a failure never leaves a truncated index behind.
+	 */
+	static void write(Path file, Collection<Entry> entries) throws IOException {
+		final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+		final CRC32C checksum = new CRC32C();
+		try (DataOutputStream out = new DataOutputStream(
+				new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)), checksum))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(entries.size());
+			for (final Entry entry : entries) {
+				writeEntry(out, entry);
+			}
+			out.writeLong(checksum.getValue());
+		}
+		try {
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static Entry readEntry(DataInputStream in) throws IOException {
+		final String projectName = in.readUTF();
+		final String pomLocation = in.readUTF();
+		final long contentHash = in.readLong();
+		final long modificationStamp = in.readLong();
+
+		final Profile[] profiles = new Profile[readCount(in)];
+		for (int i = 0; i < profiles.length; i++) {
+			profiles[i] = new Profile(in.readUTF(), in.readBoolean());
+		}
+		final Plugin[] plugins = new Plugin[readCount(in)];
+		for (int i = 0; i < plugins.length; i++) {
+			plugins[i] = new Plugin(in.readUTF(), in.readUTF(), in.readUTF());
+		}
+		final Dependency[] dependencies = new Dependency[readCount(in)];
+		for (int i = 0; i < dependencies.length; i++) {
+			dependencies[i] = new Dependency(in.readUTF(), in.readUTF(), in.readUTF(),
+					in.readBoolean() ? in.readUTF() : null);
+		}
+
+		return new Entry(projectName, pomLocation, contentHash,
+				new ProjectModelSnapshot(modificationStamp, profiles, plugins, dependencies));
+	}
+
+	private static void writeEntry(DataOutputStream out, Entry entry) throws IOException {
+		final ProjectModelSnapshot snapshot = entry.snapshot();
+		out.writeUTF(entry.projectName());
+		out.writeUTF(entry.pomLocation());
+		out.writeLong(entry.contentHash());
+		out.writeLong(snapshot.getModificationStamp());
+
+		out.writeInt(snapshot.getProfiles().length);
+		for (final Profile profile : snapshot.getProfiles()) {
+			out.writeUTF(profile.getId());
+			out.writeBoolean(profile.isActiveByDefault());
+		}
+		out.writeInt(snapshot.getPlugins().length);
+		for (final Plugin plugin : snapshot.getPlugins()) {
+			out.writeUTF(plugin.groupId());
+			out.writeUTF(plugin.artifactId());
+			out.writeUTF(Objects.toString(plugin.version(), ""));
+		}
+		out.writeInt(snapshot.getDependencies().length);
+		for (final Dependency dependency : snapshot.getDependencies()) {
+			out.writeUTF(dependency.groupId());
+			out.writeUTF(dependency.artifactId());
+			out.writeUTF(Objects.toString(dependency.version(), ""));
+			out.writeBoolean(dependency.scope() != null);
+			if (dependency.scope() != null) {
+				out.writeUTF(dependency.scope());
+			}
+		}
+	}
+
+	private static int readCount(DataInputStream in) throws IOException {
+		final int count = in.readInt();
+		// a corrupt count must not allocate huge arrays
+		if (count < 0 || count > 1_000_000) {
+			throw new IOException("Corrupt project model index, invalid count " + count);
+		}
+		return count;
+	}
+}
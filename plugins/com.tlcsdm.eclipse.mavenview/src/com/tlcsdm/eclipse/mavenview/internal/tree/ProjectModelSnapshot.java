@@ -0,0 +1,61 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.Objects;
+
+/**
+ * Immutable summary of the parts of a project's Maven model that are shown in
+ * the tree: profiles, build plugins and declared dependencies. Snapshots are
+ * created and shared through {@link ProjectModelCache}, the arrays must not be
+ * modified by callers.
+ */
+public final class ProjectModelSnapshot {
+
+	private final long modificationStamp;
+	private final Profile[] profiles;
+	private final Plugin[] plugins;
+	private final Dependency[] dependencies;
+
+	ProjectModelSnapshot(long modificationStamp, Profile[] profiles, Plugin[] plugins, Dependency[] dependencies) {
+		this.modificationStamp = modificationStamp;
+		this.profiles = Objects.requireNonNull(profiles);
+		this.plugins = Objects.requireNonNull(plugins);
+		this.dependencies = Objects.requireNonNull(dependencies);
+	}
+
+	/**
+	 * Returns the modification stamp of the pom.xml this snapshot was read from.
+	 */
+	public long getModificationStamp() {
+		return this.modificationStamp;
+	}
+
+	public Profile[] getProfiles() {
+		return this.profiles;
+	}
+
+	public Plugin[] getPlugins() {
+		return this.plugins;
+	}
+
+	public Dependency[] getDependencies() {
+		return this.dependencies;
+	}
+
+	public boolean hasProfiles() {
+		return this.profiles.length > 0;
+	}
+
+	public boolean hasPlugins() {
+		return this.plugins.length > 0;
+	}
+
+	public boolean hasDependencies() {
+		return this.dependencies.length > 0;
+	}
+
+	@Override
+	public String toString() {
+		return "ProjectModelSnapshot [stamp=" + this.modificationStamp + ", profiles=" + this.profiles.length
+				+ ", plugins=" + this.plugins.length + ", dependencies=" + this.dependencies.length + "]";
+	}
+}
@@ -1,12 +1,16 @@
 package com.tlcsdm.eclipse.mavenview.internal.tree;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.Viewer;
 
 import com.tlcsdm.eclipse.mavenview.MavenViewPreferences;
 
 public class ProjectTreeContentProvider implements ITreeContentProvider {
 
+	private DeferredChildrenLoader loader;
+
 	public static ProjectNode[] fetchMavenProjects() {
 		final IProject[] projects = MavenViewPreferences.getInitialProjectSelection().fetchMavenProjects();
 		final ProjectNode[] result = new ProjectNode[projects.length];
@@ -22,9 +26,23 @@ public class ProjectTreeContentProvider implements ITreeContentProvider {
 		return (ProjectNode[]) parent;
 	}
 
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		// running jobs are kept, the nodes of the new input are equal to the old ones
+		if (this.loader == null && viewer instanceof AbstractTreeViewer) {
+			this.loader = new DeferredChildrenLoader((AbstractTreeViewer) viewer);
+		}
+	}
+
 	@Override
 	public Object[] getChildren(Object parent) {
-		return parent instanceof Parentable ? ((Parentable) parent).getChildren() : new Object[0];
+		if (!(parent instanceof Parentable)) {
+			return new Object[0];
+		}
+		if (this.loader == null) {
+			return ((Parentable) parent).getChildren();
+		}
+		return this.loader.getChildren((Parentable) parent);
 	}
 
 	@Override
@@ -34,7 +52,15 @@ public class ProjectTreeContentProvider implements ITreeContentProvider {
 
 	@Override
 	public Object getParent(Object child) {
-		return null;
+		return child instanceof Childable ? ((Childable) child).getParent() : null;
+	}
+
+	@Override
+	public void dispose() {
+		if (this.loader != null) {
+			this.loader.dispose();
+			this.loader = null;
+		}
 	}
 
 }
\ No newline at end of file
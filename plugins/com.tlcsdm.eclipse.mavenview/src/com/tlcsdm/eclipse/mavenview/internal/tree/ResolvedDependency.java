@@ -0,0 +1,27 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.List;
+
+/**
+ * A dependency in the resolved, transitive dependency tree of a project.
+ *
+ * @param version        the resolved version
+ * @param managedVersion  the version enforced by the dependency management or
+ *                        null if the dependency is not managed
+ * @param conflictVersion the version Maven resolved instead of this dependency,
+ *                        equal to the version if the same version is resolved
+ *                        nearer to the project, or null if the dependency was
+ *                        not omitted
+ * @param children        the dependencies Maven resolved through this one
+ */
+public record ResolvedDependency(String groupId, String artifactId, String version, String scope,
+		String managedVersion, String conflictVersion, List<ResolvedDependency> children) {
+
+	public boolean isManaged() {
+		return this.managedVersion != null;
+	}
+
+	public boolean isOmitted() {
+		return this.conflictVersion != null;
+	}
+}
@@ -0,0 +1,151 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+
+import com.tlcsdm.eclipse.mavenview.Activator;
+import com.tlcsdm.eclipse.mavenview.MavenRunner;
+
+/**
+ * Caches the resolved dependency tree per project and pom.xml stamp. The tree
+ * is built from the dependency graph m2e collects for its dependency hierarchy
+ * and the artifacts of the <code>MavenProject</code> m2e already resolved, so
+ * nothing is downloaded; m2e reads missing projects from the local repository
+ * and honors its offline setting. m2e resolves with the profiles of its project
+ * configuration, the profiles selected in the view only apply to launches.
+ */
+final class ResolvedDependencyCache {
+
+	// the scope of mvn dependency:tree, which includes all others
+	private static final String SCOPE = "test";
+
+	private record Entry(long modificationStamp, List<ResolvedDependency> dependencies) {
+	}
+
+	// IMavenModelManager#readDependencyTree(IMavenProjectFacade, MavenProject, String, IProgressMonitor)
+	private static Optional<Method> readDependencyTree;
+
+	// Trees per project name
+	private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private ResolvedDependencyCache() {
+		// hidden
+	}
+
+	/**
+	 * Returns true if {@link #getDependencies(IProject)} will not need to resolve
+	 * the project.
+	 */
+	static boolean isCurrent(IProject project) {
+		final Entry entry = entries.get(project.getName());
+		return entry != null && entry.modificationStamp() == getModificationStamp(project);
+	}
+
+	/**
+	 * Returns the direct dependencies of the project with their transitive
+	 * dependencies as children.
+	 */
+	static List<ResolvedDependency> getDependencies(IProject project) {
+		final long modificationStamp = getModificationStamp(project);
+		Entry entry = entries.get(project.getName());
+		if (entry == null || entry.modificationStamp() != modificationStamp) {
+			entry = new Entry(modificationStamp, read(project));
+			entries.put(project.getName(), entry);
+		}
+		return entry.dependencies();
+	}
+
+	static void invalidate(IProject project) {
+		entries.remove(project.getName());
+	}
+
+	static void invalidateAll() {
+		entries.clear();
+	}
+
+	private static long getModificationStamp(IProject project) {
+		return project.getFile(new Path(MavenRunner.POM_FILE_NAME)).getModificationStamp();
+	}
+
+	private static List<ResolvedDependency> read(IProject project) {
+		final IMavenProjectFacade projectFacade = MavenPlugin.getMavenProjectRegistry().getProject(project);
+		if (projectFacade == null || !MavenModelAccessor.isAvailable()) {
+			return List.of();
+		}
+
+		try {
+			final Object mavenProject = projectFacade.getMavenProject(new NullProgressMonitor());
+			if (mavenProject == null) {
+				return List.of();
+			}
+			final Object model = MavenModelAccessor.getModel(mavenProject);
+			final Map<String, String> managedVersions = model != null ? MavenModelAccessor.getManagedVersions(model)
+					: Map.of();
+			final List<ResolvedDependencyTree.Artifact> artifacts = MavenModelAccessor
+					.getResolvedArtifacts(mavenProject);
+			final Object graph = readDependencyGraph(projectFacade, mavenProject);
+			if (graph == null) {
+				// without conflict markers
+				return ResolvedDependencyTree.build(artifacts, managedVersions);
+			}
+			return ResolvedDependencyTree.build(MavenModelAccessor.getDependencyGraph(graph),
+					ResolvedDependencyTree.getVersions(artifacts), managedVersions);
+		} catch (MavenModelAccessor.UnavailableException e) {
+			// the accessor already logged why
+			return List.of();
+		} catch (CoreException e) {
+			Activator.getDefault().getLog().error("Failed to resolve dependencies of project " + project.getName(),
+					e);
+			return List.of();
+		}
+	}
+
+	/**
+	 * Returns the dependency graph m2e collects for its dependency hierarchy,
+	 * including the dependencies that lost version conflicts, or null if m2e does
+	 * not offer it.
+	 */
+	private static Object readDependencyGraph(IMavenProjectFacade projectFacade, Object mavenProject)
+			throws CoreException {
+		final Object modelManager = MavenPlugin.getMavenModelManager();
+		final Method method = modelManager != null ? getReadDependencyTree(modelManager) : null;
+		if (method == null) {
+			return null;
+		}
+		try {
+			return method.invoke(modelManager, projectFacade, mavenProject, SCOPE, new NullProgressMonitor());
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof CoreException) {
+				throw (CoreException) e.getCause();
+			}
+			Activator.getDefault().getLog().warn("Failed to read the dependency graph", e.getCause());
+		} catch (IllegalAccessException | IllegalArgumentException e) {
+			Activator.getDefault().getLog().warn("Failed to read the dependency graph", e);
+		}
+		return null;
+	}
+
+	private static synchronized Method getReadDependencyTree(Object modelManager) {
+		if (readDependencyTree == null) {
+			readDependencyTree = Optional.empty();
+			for (final Method method : modelManager.getClass().getMethods()) {
+				if (method.getName().equals("readDependencyTree") && method.getParameterCount() == 4
+						&& method.getParameterTypes()[0] == IMavenProjectFacade.class) {
+					readDependencyTree = Optional.of(method);
+				}
+			}
+		}
+		return readDependencyTree.orElse(null);
+	}
+}
@@ -0,0 +1,111 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.swt.graphics.Image;
+
+import com.tlcsdm.eclipse.mavenview.Activator;
+import com.tlcsdm.eclipse.mavenview.Displayable;
+import com.tlcsdm.eclipse.mavenview.MavenViewImages;
+
+/**
+ * Represents a dependency of the resolved dependency tree without transitive
+ * dependencies, see {@link ResolvedDependencyParentNode} for the others.
+ */
+public class ResolvedDependencyNode implements Displayable, Childable {
+
+	/**
+	 * Creates the nodes of the dependencies, split into pages if there are too
+	 * many of them.
+	 */
+	static Object[] createChildren(Object parent, List<ResolvedDependency> dependencies) {
+		if (dependencies.size() > DependencyPageNode.PAGE_SIZE) {
+			return DependencyPageNode.createPages(parent, dependencies);
+		}
+		return create(parent, dependencies, 0, dependencies.size());
+	}
+
+	static Object[] create(Object parent, List<ResolvedDependency> dependencies, int from, int to) {
+		final Object[] result = new Object[to - from];
+		for (int i = from; i < to; i++) {
+			final ResolvedDependency dependency = dependencies.get(i);
+			result[i - from] = dependency.children().isEmpty() ? new ResolvedDependencyNode(parent, dependency)
+					: new ResolvedDependencyParentNode(parent, dependency);
+		}
+		return result;
+	}
+
+	private final Object parent;
+	private final ResolvedDependency dependency;
+
+	ResolvedDependencyNode(Object parent, ResolvedDependency dependency) {
+		this.parent = Objects.requireNonNull(parent);
+		this.dependency = Objects.requireNonNull(dependency);
+	}
+
+	@Override
+	public Object getParent() {
+		return this.parent;
+	}
+
+	public ResolvedDependency getDependency() {
+		return this.dependency;
+	}
+
+	@Override
+	public String getDisplayName() {
+		return this.dependency.groupId() + ":" + this.dependency.artifactId() + ":" + this.dependency.version();
+	}
+
+	/**
+	 * Returns the scope and whether the version is managed or the dependency was
+	 * omitted, e.g. <code>" (test, managed, omitted for conflict with 2.0)"</code>,
+	 * or an empty string.
+	 */
+	public String getDetails() {
+		final List<String> details = new ArrayList<>(3);
+		final String scope = this.dependency.scope();
+		if (scope != null && !scope.isEmpty()) {
+			details.add(scope);
+		}
+		if (this.dependency.isManaged()) {
+			details.add(Messages.getString("ManagedVersion"));
+		}
+		if (this.dependency.isOmitted()) {
+			details.add(this.dependency.conflictVersion().equals(this.dependency.version())
+					? Messages.getString("OmittedForDuplicate")
+					: MessageFormat.format(Messages.getString("OmittedForConflict"), this.dependency.conflictVersion()));
+		}
+		return details.isEmpty() ? "" : " (" + String.join(", ", details) + ")";
+	}
+
+	@Override
+	public Image getImage() {
+		return Activator.getImage(MavenViewImages.OBJ_DEPENDENCY);
+	}
+
+	@Override
+	public int hashCode() {
+		return 29 * Objects.hash(this.parent, this.dependency.groupId(), this.dependency.artifactId(),
+				this.dependency.version(), this.dependency.scope());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+
+		// the children are not compared, they follow from the coordinates
+		final ResolvedDependencyNode that = (ResolvedDependencyNode) obj;
+		return Objects.equals(this.parent, that.parent)
+				&& Objects.equals(this.dependency.groupId(), that.dependency.groupId())
+				&& Objects.equals(this.dependency.artifactId(), that.dependency.artifactId())
+				&& Objects.equals(this.dependency.version(), that.dependency.version())
+				&& Objects.equals(this.dependency.scope(), that.dependency.scope());
+	}
+}
@@ -0,0 +1,17 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+/**
+ * Represents a dependency of the resolved dependency tree with transitive
+ * dependencies, whose nodes are created when it is expanded.
+ */
+public class ResolvedDependencyParentNode extends ResolvedDependencyNode implements Parentable {
+
+	ResolvedDependencyParentNode(Object parent, ResolvedDependency dependency) {
+		super(parent, dependency);
+	}
+
+	@Override
+	public Object[] getChildren() {
+		return createChildren(this, getDependency().children());
+	}
+}
@@ -0,0 +1,156 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Builds the transitive dependency tree of a project, preferably from the
+ * dependency graph m2e collects for its dependency hierarchy. That graph
+ * contains the dependencies that lost a version conflict as well, they are
+ * marked as omitted like <code>mvn dependency:tree -Dverbose</code> does.
+ * <p>
+ * Otherwise the tree is built from the flat list of artifacts Maven resolved.
+ * Every artifact knows the trail of artifacts it was resolved through, its
+ * parent in the tree is the second to last element of that trail (the first one
+ * being the project itself). Only the artifacts that won version conflicts are
+ * resolved, so that tree shows each <code>groupId:artifactId</code> once, below
+ * the path it was resolved through.
+ * </p>
+ */
+final class ResolvedDependencyTree {
+
+	/**
+	 * A dependency of the collected dependency graph, before version conflicts
+	 * are resolved.
+	 */
+	record Node(String groupId, String artifactId, String version, String scope, List<Node> children) {
+	}
+
+	/**
+	 * A resolved artifact as read from the Maven project.
+	 *
+	 * @param id    the id as used in dependency trails, i.e.
+	 *              <code>groupId:artifactId:type[:classifier]:version</code>
+	 * @param trail the ids of the project and the artifacts this one was resolved
+	 *              through, ending with this artifact
+	 */
+	record Artifact(String id, String groupId, String artifactId, String version, String scope, List<String> trail) {
+	}
+
+	private ResolvedDependencyTree() {
+		// hidden
+	}
+
+	/**
+	 * Returns the direct dependencies of the project with their transitive
+	 * dependencies as children.
+	 *
+	 * @param managedVersions the versions of the dependency management per
+	 *                        <code>groupId:artifactId</code>
+	 */
+	static List<ResolvedDependency> build(List<Artifact> artifacts, Map<String, String> managedVersions) {
+		// children per artifact id, filled before the dependencies are created
+		final Map<String, List<Artifact>> children = new HashMap<>();
+		final List<Artifact> roots = new ArrayList<>();
+		final Map<String, Artifact> artifactsById = new HashMap<>();
+		for (final Artifact artifact : artifacts) {
+			artifactsById.put(artifact.id(), artifact);
+		}
+
+		for (final Artifact artifact : artifacts) {
+			final List<String> trail = artifact.trail();
+			final String parentId = trail.size() > 2 ? trail.get(trail.size() - 2) : null;
+			if (parentId != null && artifactsById.containsKey(parentId) && !parentId.equals(artifact.id())) {
+				children.computeIfAbsent(parentId, key -> new ArrayList<>()).add(artifact);
+			} else {
+				roots.add(artifact);
+			}
+		}
+		return create(roots, children, managedVersions);
+	}
+
+	/**
+	 * Returns the direct dependencies of the project with their transitive
+	 * dependencies as children. The nearest occurrence of a
+	 * <code>groupId:artifactId</code> with the resolved version wins, every other
+	 * occurrence is omitted and shown without its dependencies.
+	 *
+	 * @param graph            the direct dependencies of the collected graph
+	 * @param resolvedVersions the versions Maven resolved per
+	 *                         <code>groupId:artifactId</code>
+	 * @param managedVersions  the versions of the dependency management per
+	 *                         <code>groupId:artifactId</code>
+	 */
+	static List<ResolvedDependency> build(List<Node> graph, Map<String, String> resolvedVersions,
+			Map<String, String> managedVersions) {
+		final Set<Node> winners = Collections.newSetFromMap(new IdentityHashMap<>());
+		final Set<String> resolved = new HashSet<>();
+		final Deque<Node> nodes = new ArrayDeque<>(graph);
+		while (!nodes.isEmpty()) {
+			final Node node = nodes.poll();
+			final String key = getKey(node.groupId(), node.artifactId());
+			if (Objects.equals(node.version(), resolvedVersions.getOrDefault(key, node.version()))
+					&& resolved.add(key)) {
+				winners.add(node);
+				nodes.addAll(node.children());
+			}
+		}
+		return create(graph, winners, resolvedVersions, managedVersions);
+	}
+
+	/**
+	 * Returns the resolved version per <code>groupId:artifactId</code>.
+	 */
+	static Map<String, String> getVersions(List<Artifact> artifacts) {
+		final Map<String, String> result = new HashMap<>();
+		for (final Artifact artifact : artifacts) {
+			result.put(getKey(artifact.groupId(), artifact.artifactId()), artifact.version());
+		}
+		return result;
+	}
+
+	private static List<ResolvedDependency> create(List<Node> nodes, Set<Node> winners,
+			Map<String, String> resolvedVersions, Map<String, String> managedVersions) {
+		final List<ResolvedDependency> result = new ArrayList<>(nodes.size());
+		for (final Node node : nodes) {
+			final String key = getKey(node.groupId(), node.artifactId());
+			final String version = Objects.toString(node.version(), "");
+			if (winners.contains(node)) {
+				// every node wins once, so the recursion ends
+				result.add(new ResolvedDependency(node.groupId(), node.artifactId(), version, node.scope(),
+						managedVersions.get(key), null,
+						create(node.children(), winners, resolvedVersions, managedVersions)));
+			} else {
+				result.add(new ResolvedDependency(node.groupId(), node.artifactId(), version, node.scope(),
+						managedVersions.get(key), resolvedVersions.getOrDefault(key, version), List.of()));
+			}
+		}
+		return result;
+	}
+
+	private static String getKey(String groupId, String artifactId) {
+		return groupId + ':' + artifactId;
+	}
+
+	private static List<ResolvedDependency> create(List<Artifact> artifacts, Map<String, List<Artifact>> children,
+			Map<String, String> managedVersions) {
+		final List<ResolvedDependency> result = new ArrayList<>(artifacts.size());
+		for (final Artifact artifact : artifacts) {
+			// every artifact is resolved once, so the recursion ends
+			final List<Artifact> artifactChildren = children.remove(artifact.id());
+			result.add(new ResolvedDependency(artifact.groupId(), artifact.artifactId(), artifact.version(),
+					artifact.scope(), managedVersions.get(getKey(artifact.groupId(), artifact.artifactId())), null,
+					artifactChildren != null ? create(artifactChildren, children, managedVersions) : List.of()));
+		}
+		return result;
+	}
+}
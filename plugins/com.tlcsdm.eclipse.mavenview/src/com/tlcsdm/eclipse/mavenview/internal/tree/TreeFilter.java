@@ -0,0 +1,181 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerFilter;
+
+import com.tlcsdm.eclipse.mavenview.MavenViewPreferences;
+import com.tlcsdm.eclipse.mavenview.Phase;
+import com.tlcsdm.eclipse.mavenview.internal.tree.TreeFilterIndex.Kind;
+import com.tlcsdm.eclipse.mavenview.internal.tree.TreeFilterIndex.ProjectMatch;
+
+/**
+ * Filters the tree by a text that is matched against project names, phases,
+ * profiles, plugin prefixes and goals and dependency coordinates. The text is
+ * matched against a {@link TreeFilterIndex} of the cached models once per
+ * query, {@link #select(Viewer, Object, Object)} only looks the nodes up.
+ * Typing more characters only searches the projects that matched before and
+ * the projects whose model was read since.
+ * <p>
+ * All children of a project whose name matches are shown. Projects whose model
+ * was not read yet are matched by their name only.
+ * </p>
+ */
+public class TreeFilter extends ViewerFilter {
+
+	private final TreeFilterIndex index = new TreeFilterIndex(
+			plugin -> MavenPluginGoalNode.getCachedGoalNames(plugin.groupId(), plugin.artifactId(), plugin.version()));
+
+	private String query = "";
+	private Map<String, ProjectMatch> matches = Collections.emptyMap();
+	private Set<Phase> matchingPhases = EnumSet.noneOf(Phase.class);
+
+	/**
+	 * Sets the text to filter by, an empty text shows all nodes.
+	 *
+	 * @param projects the displayed projects
+	 * @return true if the query changed and the viewer has to be refreshed
+	 */
+	public boolean setQuery(String text, ProjectNode[] projects) {
+		final String newQuery = TreeFilterIndex.normalize(text);
+		if (newQuery.equals(this.query)) {
+			return false;
+		}
+
+		// a longer query can only match a subset of the projects that matched before
+		final boolean narrowing = !this.query.isEmpty() && newQuery.startsWith(this.query)
+				&& this.matchingPhases.isEmpty();
+		final List<String> candidates = new ArrayList<>(narrowing ? this.matches.size() : projects.length);
+		for (final ProjectNode project : projects) {
+			final String name = project.getDisplayName();
+			final boolean changed = this.index.update(name,
+					ProjectModelCache.getCachedSnapshot(project.getProjectResource()));
+			if (!narrowing || changed || this.matches.containsKey(name)) {
+				candidates.add(name);
+			}
+		}
+		if (!narrowing) {
+			this.index.retain(new HashSet<>(candidates));
+		}
+
+		this.query = newQuery;
+		this.matches = this.index.match(newQuery, candidates);
+		this.matchingPhases = EnumSet.noneOf(Phase.class);
+		if (!newQuery.isEmpty()) {
+			for (final Phase phase : MavenViewPreferences.getDisplayedPhases()) {
+				if (phase.getDisplayName().contains(newQuery)) {
+					this.matchingPhases.add(phase);
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Matches the query again, e.g. because the projects or their models changed.
+	 */
+	public void update(ProjectNode[] projects) {
+		final String currentQuery = this.query;
+		this.query = "";
+		setQuery(currentQuery, projects);
+	}
+
+	public boolean isActive() {
+		return !this.query.isEmpty();
+	}
+
+	/**
+	 * Returns true if the project is shown because of its children, i.e. it should
+	 * be expanded to reveal them. Matching phases are shown below every project
+	 * and do not count, expanding all projects for them would only bury the
+	 * other matches.
+	 */
+	public boolean hasMatchingChildren(ProjectNode project) {
+		final ProjectMatch match = this.matches.get(project.getDisplayName());
+		return match != null && !match.isNameMatch();
+	}
+
+	/**
+	 * Returns true if goals of the project match, i.e. its plugins should be
+	 * expanded as well.
+	 */
+	public boolean hasMatchingGoals(ProjectNode project) {
+		final ProjectMatch match = this.matches.get(project.getDisplayName());
+		return match != null && !match.isNameMatch() && match.has(Kind.GOAL);
+	}
+
+	@Override
+	public boolean select(Viewer viewer, Object parentElement, Object element) {
+		if (this.query.isEmpty()) {
+			return true;
+		}
+		if (element instanceof ProjectNode) {
+			return !this.matchingPhases.isEmpty() || this.matches.containsKey(((ProjectNode) element).getDisplayName());
+		}
+
+		final ProjectNode project = findProject(element);
+		final ProjectMatch match = project != null ? this.matches.get(project.getDisplayName()) : null;
+		if (match != null && match.isNameMatch() || element instanceof PendingUpdateNode) {
+			return true;
+		}
+
+		if (element instanceof PhasesNode) {
+			return !this.matchingPhases.isEmpty();
+		}
+		if (element instanceof PhaseNode) {
+			return this.matchingPhases.contains(((PhaseNode) element).getPhase());
+		}
+		if (match == null) {
+			return false;
+		}
+		if (element instanceof ProfilesNode) {
+			return match.has(Kind.PROFILE);
+		}
+		if (element instanceof ProfileNode) {
+			return match.contains(Kind.PROFILE, ((ProfileNode) element).getProfile().getId());
+		}
+		if (element instanceof MavenPluginsNode) {
+			return match.has(Kind.PLUGIN);
+		}
+		if (element instanceof MavenPluginNode) {
+			final MavenPluginNode pluginNode = (MavenPluginNode) element;
+			return match.contains(Kind.PLUGIN,
+					TreeFilterIndex.getPluginKey(pluginNode.getGroupId(), pluginNode.getArtifactId()));
+		}
+		if (element instanceof MavenPluginGoalNode) {
+			final MavenPluginGoalNode goalNode = (MavenPluginGoalNode) element;
+			final MavenPluginNode pluginNode = (MavenPluginNode) goalNode.getParent();
+			return match.contains(Kind.GOAL, TreeFilterIndex.getGoalKey(
+					TreeFilterIndex.getPluginKey(pluginNode.getGroupId(), pluginNode.getArtifactId()),
+					goalNode.getGoal()));
+		}
+		if (element instanceof DependenciesNode) {
+			return match.has(Kind.DEPENDENCY);
+		}
+		if (element instanceof DependencyNode) {
+			final DependencyNode dependencyNode = (DependencyNode) element;
+			return match.contains(Kind.DEPENDENCY,
+					TreeFilterIndex.getDependencyKey(dependencyNode.getGroupId(), dependencyNode.getArtifactId()));
+		}
+		// the resolved dependencies are shown as a whole if a declared one matched
+		return !(element instanceof LaunchConfigsNode || element instanceof LaunchConfigNode);
+	}
+
+	private static ProjectNode findProject(Object element) {
+		Object current = element;
+		while (current instanceof Childable) {
+			current = ((Childable) current).getParent();
+			if (current instanceof ProjectNode) {
+				return (ProjectNode) current;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,200 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The searchable texts of the projects of the tree, taken from their
+ * {@link ProjectModelSnapshot}s, so that filtering never has to compute the
+ * children of a node. The entry of a project is only rebuilt if its snapshot
+ * changes.
+ * <p>
+ * Every text has a kind and a key identifying the node it belongs to, e.g. the
+ * profile id or <code>groupId:artifactId</code> of a dependency.
+ * </p>
+ */
+final class TreeFilterIndex {
+
+	enum Kind {
+		PROJECT, PROFILE, PLUGIN, GOAL, DEPENDENCY
+	}
+
+	/**
+	 * Returns the goal names of a plugin, without blocking.
+	 */
+	@FunctionalInterface
+	interface GoalLookup {
+		String[] getGoalNames(Plugin plugin);
+	}
+
+	/**
+	 * The keys of a project that matched a query, by kind.
+	 */
+	static final class ProjectMatch {
+
+		private final Map<Kind, Set<String>> keys = new EnumMap<>(Kind.class);
+
+		void add(Kind kind, String key) {
+			this.keys.computeIfAbsent(kind, k -> new HashSet<>()).add(key);
+		}
+
+		boolean isNameMatch() {
+			return this.keys.containsKey(Kind.PROJECT);
+		}
+
+		boolean has(Kind kind) {
+			return this.keys.containsKey(kind);
+		}
+
+		boolean contains(Kind kind, String key) {
+			final Set<String> kindKeys = this.keys.get(kind);
+			return kindKeys != null && kindKeys.contains(key);
+		}
+	}
+
+	private static final class Entry {
+
+		final ProjectModelSnapshot snapshot;
+		final Kind[] kinds;
+		final String[] keys;
+		// lower case
+		final String[] texts;
+
+		Entry(ProjectModelSnapshot snapshot, List<Kind> kinds, List<String> keys, List<String> texts) {
+			this.snapshot = snapshot;
+			this.kinds = kinds.toArray(new Kind[0]);
+			this.keys = keys.toArray(new String[0]);
+			this.texts = texts.toArray(new String[0]);
+		}
+	}
+
+	private final GoalLookup goalLookup;
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	TreeFilterIndex(GoalLookup goalLookup) {
+		this.goalLookup = Objects.requireNonNull(goalLookup);
+	}
+
+	/**
+	 * Returns the query in the form it is matched, i.e. trimmed and lower case.
+	 */
+	static String normalize(String query) {
+		return query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Updates the entry of the project.
+	 *
+	 * @param snapshot the current snapshot of the project or null if it is not
+	 *                 known yet, then only the name of the project is searched
+	 * @return true if the entry was created or rebuilt
+	 */
+	boolean update(String projectName, ProjectModelSnapshot snapshot) {
+		final Entry entry = this.entries.get(projectName);
+		if (entry == null || entry.snapshot != snapshot) {
+			this.entries.put(projectName, createEntry(projectName, snapshot));
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Drops the entries of all projects but the given ones.
+	 */
+	void retain(Set<String> projectNames) {
+		this.entries.keySet().retainAll(projectNames);
+	}
+
+	/**
+	 * Returns the matches of the projects whose texts contain the normalized
+	 * query, in the order of the given projects. Projects without an entry are
+	 * ignored.
+	 */
+	Map<String, ProjectMatch> match(String normalizedQuery, Iterable<String> projectNames) {
+		if (normalizedQuery.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		final Map<String, ProjectMatch> result = new LinkedHashMap<>();
+		for (final String projectName : projectNames) {
+			final Entry entry = this.entries.get(projectName);
+			if (entry == null) {
+				continue;
+			}
+			ProjectMatch match = null;
+			for (int i = 0; i < entry.texts.length; i++) {
+				if (entry.texts[i].contains(normalizedQuery)) {
+					if (match == null) {
+						match = new ProjectMatch();
+					}
+					match.add(entry.kinds[i], entry.keys[i]);
+				}
+			}
+			if (match != null) {
+				result.put(projectName, match);
+			}
+		}
+		return result;
+	}
+
+	private Entry createEntry(String projectName, ProjectModelSnapshot snapshot) {
+		final List<Kind> kinds = new ArrayList<>();
+		final List<String> keys = new ArrayList<>();
+		final List<String> texts = new ArrayList<>();
+		kinds.add(Kind.PROJECT);
+		keys.add(projectName);
+		texts.add(normalize(projectName));
+
+		if (snapshot != null) {
+			for (final Profile profile : snapshot.getProfiles()) {
+				kinds.add(Kind.PROFILE);
+				keys.add(profile.getId());
+				texts.add(normalize(profile.getId()));
+			}
+			for (final Plugin plugin : snapshot.getPlugins()) {
+				final String pluginKey = getPluginKey(plugin.groupId(), plugin.artifactId());
+				final String prefix = MavenPluginsNode.getPluginPrefix(plugin.artifactId());
+				kinds.add(Kind.PLUGIN);
+				keys.add(pluginKey);
+				texts.add(normalize(prefix + ' ' + pluginKey + ':' + Objects.toString(plugin.version(), "")));
+				for (final String goal : this.goalLookup.getGoalNames(plugin)) {
+					// a matching goal shows its plugin as well
+					final String goalText = normalize(prefix + ':' + goal);
+					kinds.add(Kind.PLUGIN);
+					keys.add(pluginKey);
+					texts.add(goalText);
+					kinds.add(Kind.GOAL);
+					keys.add(getGoalKey(pluginKey, goal));
+					texts.add(goalText);
+				}
+			}
+			for (final Dependency dependency : snapshot.getDependencies()) {
+				final String dependencyKey = getDependencyKey(dependency.groupId(), dependency.artifactId());
+				kinds.add(Kind.DEPENDENCY);
+				keys.add(dependencyKey);
+				texts.add(normalize(dependencyKey + ':' + Objects.toString(dependency.version(), "")));
+			}
+		}
+		return new Entry(snapshot, kinds, keys, texts);
+	}
+
+	static String getPluginKey(String groupId, String artifactId) {
+		return groupId + ':' + artifactId;
+	}
+
+	static String getGoalKey(String pluginKey, String goal) {
+		return pluginKey + ':' + goal;
+	}
+
+	static String getDependencyKey(String groupId, String artifactId) {
+		return groupId + ':' + artifactId;
+	}
+}
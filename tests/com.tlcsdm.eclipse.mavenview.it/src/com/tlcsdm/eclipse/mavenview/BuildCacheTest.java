@@ -0,0 +1,161 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BuildCacheTest {
+
+	private static final String POM = "<project><artifactId>app</artifactId></project>";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@After
+	public void tearDown() {
+		BuildCache.clear();
+	}
+
+	@Test
+	public void testComputeFingerprint() throws Exception {
+		final Path directory = this.folder.getRoot().toPath();
+		Files.writeString(directory.resolve("pom.xml"), POM);
+		final Path source = directory.resolve("src/main/java/App.java");
+		Files.createDirectories(source.getParent());
+		Files.writeString(source, "class App {}");
+
+		final String fingerprint = BuildCache.computeFingerprint(directory, List.of(), List.of("lib=1"));
+		Assert.assertEquals(fingerprint, BuildCache.computeFingerprint(directory, List.of(), List.of("lib=1")));
+
+		// the build directory is no input
+		Files.createDirectories(directory.resolve("target"));
+		Files.writeString(directory.resolve("target/app.jar"), "jar");
+		Assert.assertEquals(fingerprint, BuildCache.computeFingerprint(directory, List.of(), List.of("lib=1")));
+
+		Assert.assertNotEquals(fingerprint, BuildCache.computeFingerprint(directory, List.of(), List.of("lib=2")));
+		Files.writeString(source, "class App { }");
+		Assert.assertNotEquals(fingerprint, BuildCache.computeFingerprint(directory, List.of(), List.of("lib=1")));
+	}
+
+	@Test
+	public void testFindParentPoms() throws Exception {
+		final Path root = this.folder.getRoot().toPath();
+		Files.writeString(root.resolve("pom.xml"), POM);
+		Files.createDirectories(root.resolve("parent"));
+		Files.writeString(root.resolve("parent/pom.xml"), "<project><parent><artifactId>root</artifactId></parent></project>");
+		Files.createDirectories(root.resolve("modules/app"));
+		final Path pom = root.resolve("modules/app/pom.xml");
+		Files.writeString(pom, "<project><parent><relativePath>../../parent</relativePath></parent></project>");
+
+		Assert.assertEquals(List.of(root.resolve("parent/pom.xml"), root.resolve("pom.xml")),
+				BuildCache.findParentPoms(pom));
+	}
+
+	@Test
+	public void testReadParentRelativePath() throws Exception {
+		Assert.assertNull(BuildCache.readParentRelativePath(stream(POM)));
+		Assert.assertEquals("../pom.xml", BuildCache.readParentRelativePath(
+				stream("<project><parent><artifactId>root</artifactId></parent></project>")));
+		Assert.assertEquals("", BuildCache
+				.readParentRelativePath(stream("<project><parent><relativePath/></parent></project>")));
+	}
+
+	@Test
+	public void testHasOutputs() throws Exception {
+		final Path target = this.folder.newFolder("target").toPath();
+		Files.writeString(target.resolve("app.jar"), "jar");
+		Files.createDirectories(target.resolve("classes"));
+
+		final List<String> outputs = BuildCache.listOutputs(target);
+		Assert.assertEquals(List.of("app.jar", "classes"), outputs);
+		Assert.assertTrue(BuildCache.hasOutputs(target, outputs));
+
+		Files.delete(target.resolve("app.jar"));
+		Assert.assertFalse(BuildCache.hasOutputs(target, outputs));
+		Assert.assertEquals(List.of(), BuildCache.listOutputs(target.resolve("missing")));
+	}
+
+	@Test
+	public void testIsCacheable() throws Exception {
+		final Path directory = this.folder.getRoot().toPath();
+		Files.writeString(directory.resolve("pom.xml"), POM);
+		final IProject project = TestProxies.create(IProject.class,
+				Map.of("getName", "app", "getLocation", IPath.fromFile(directory.toFile())));
+
+		Assert.assertTrue(BuildCache.isCacheable(new ReactorRunPlanner.Run(project,
+				new MavenRunConfig().phases(Phase.INSTALL))));
+		// the outputs of a clean build are always new
+		Assert.assertFalse(BuildCache.isCacheable(new ReactorRunPlanner.Run(project,
+				new MavenRunConfig().phases(Phase.CLEAN, Phase.INSTALL))));
+		Assert.assertFalse(BuildCache.isCacheable(new ReactorRunPlanner.Run(project,
+				new MavenRunConfig().phases(Phase.INSTALL).goals("deploy:deploy"))));
+		Assert.assertFalse(BuildCache.isCacheable(new ReactorRunPlanner.Run(project,
+				new MavenRunConfig().phases(Phase.INSTALL).projects("core"))));
+
+		Files.writeString(directory.resolve("pom.xml"), "<project><modules><module>core</module></modules></project>");
+		Assert.assertFalse(BuildCache.isCacheable(new ReactorRunPlanner.Run(project,
+				new MavenRunConfig().phases(Phase.INSTALL))));
+	}
+
+	@Test
+	public void testGetKey() {
+		final String key = BuildCache.getKey("app",
+				Map.of(MavenRunner.ATTR_GOALS, "install", MavenRunner.ATTR_SKIP_TESTS, false));
+
+		Assert.assertTrue(key.startsWith("app|"));
+		Assert.assertEquals(key, BuildCache.getKey("app",
+				Map.of(MavenRunner.ATTR_SKIP_TESTS, false, MavenRunner.ATTR_GOALS, "install")));
+		// a build without tests is no build with tests
+		Assert.assertNotEquals(key, BuildCache.getKey("app",
+				Map.of(MavenRunner.ATTR_GOALS, "install", MavenRunner.ATTR_SKIP_TESTS, true)));
+	}
+
+	@Test
+	public void testReadAndWrite() throws Exception {
+		// a project name may contain the separator of the key
+		BuildCache.record("app|web", BuildCache.getKey("app|web", Map.of()), "fingerprint-1", List.of("app.jar"));
+		BuildCache.record("app", BuildCache.getKey("app", Map.of()), "fingerprint-2", List.of());
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BuildCache.write(out);
+		BuildCache.clear();
+
+		BuildCache.read(new ByteArrayInputStream(out.toByteArray()));
+
+		Assert.assertEquals("fingerprint-1", BuildCache.getProjectFingerprint("app|web"));
+		Assert.assertEquals("fingerprint-2", BuildCache.getProjectFingerprint("app"));
+		final ByteArrayOutputStream written = new ByteArrayOutputStream();
+		BuildCache.write(written);
+		Assert.assertEquals(load(out), load(written));
+	}
+
+	@Test
+	public void testReadOlderVersion() throws Exception {
+		BuildCache.read(stream("app=fingerprint\napp|0a1b=fingerprint\n"));
+
+		Assert.assertNull(BuildCache.getProjectFingerprint("app"));
+	}
+
+	private static Properties load(ByteArrayOutputStream out) throws IOException {
+		final Properties result = new Properties();
+		result.load(new ByteArrayInputStream(out.toByteArray()));
+		return result;
+	}
+
+	private static ByteArrayInputStream stream(String contents) {
+		return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,127 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.debug.core.ILaunch;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.tlcsdm.eclipse.mavenview.BuildQueue.Build;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.Priority;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.State;
+
+public class BuildQueueTest {
+
+	private final List<Build> launched = new ArrayList<>();
+	private final List<ILaunch> terminated = new ArrayList<>();
+	private final BuildQueue queue = new BuildQueue(() -> 2, new BuildQueue.Launcher() {
+
+		@Override
+		public void launch(BuildQueue buildQueue, Build build) {
+			BuildQueueTest.this.launched.add(build);
+		}
+
+		@Override
+		public void terminate(ILaunch launch) {
+			BuildQueueTest.this.terminated.add(launch);
+		}
+	});
+
+	@Test
+	public void testMaxConcurrentBuilds() {
+		final Build first = this.queue.submit(null, "first", Priority.BULK, List.of());
+		final Build second = this.queue.submit(null, "second", Priority.BULK, List.of());
+		final Build third = this.queue.submit(null, "third", Priority.BULK, List.of());
+
+		Assert.assertEquals(List.of(first, second), this.launched);
+		Assert.assertEquals(State.QUEUED, third.getState());
+
+		this.queue.finished(first, State.FINISHED);
+
+		Assert.assertEquals(List.of(first, second, third), this.launched);
+		Assert.assertEquals(State.FINISHED, first.getState());
+		Assert.assertEquals(List.of(second, third, first), this.queue.getBuilds());
+	}
+
+	@Test
+	public void testInteractiveBuildsFirst() {
+		this.queue.submit(null, "running 1", Priority.BULK, List.of());
+		this.queue.submit(null, "running 2", Priority.BULK, List.of());
+		final Build bulk = this.queue.submit(null, "bulk", Priority.BULK, List.of());
+		final Build interactive = this.queue.submit(null, "interactive", Priority.INTERACTIVE, List.of());
+
+		Assert.assertEquals(List.of(interactive, bulk), this.queue.getBuilds().subList(2, 4));
+
+		this.queue.finished(this.launched.get(0), State.FINISHED);
+
+		Assert.assertEquals(interactive, this.launched.get(2));
+		Assert.assertEquals(State.QUEUED, bulk.getState());
+	}
+
+	@Test
+	public void testCancel() {
+		final Build running = this.queue.submit(null, "running", Priority.BULK, List.of());
+		this.queue.submit(null, "other", Priority.BULK, List.of());
+		final Build queued = this.queue.submit(null, "queued", Priority.BULK, List.of());
+
+		this.queue.cancel(queued);
+		Assert.assertEquals(State.CANCELLED, queued.getState());
+
+		// the launch is terminated as soon as it is known
+		this.queue.cancel(running);
+		final ILaunch launch = createLaunch();
+		this.queue.started(running, launch);
+		Assert.assertEquals(List.of(launch), this.terminated);
+
+		this.queue.finished(running, State.FINISHED);
+		Assert.assertEquals(State.CANCELLED, running.getState());
+		// the cancelled build is not started
+		Assert.assertEquals(2, this.launched.size());
+	}
+
+	@Test
+	public void testBuildListener() {
+		final List<String> events = new ArrayList<>();
+		this.queue.addBuildListener(new BuildQueue.BuildListener() {
+
+			@Override
+			public void buildStarted(Build build) {
+				events.add("started " + build.getName());
+			}
+
+			@Override
+			public void buildDone(Build build) {
+				events.add(build.getName() + ' ' + build.getState());
+			}
+		});
+		final Build first = this.queue.submit(null, "first", Priority.BULK, List.of());
+		this.queue.submit(null, "second", Priority.BULK, List.of());
+		this.queue.cancel(this.queue.submit(null, "queued", Priority.BULK, List.of()));
+		this.queue.finished(first, State.FINISHED);
+		// reported once
+		this.queue.finished(first, State.FAILED);
+
+		Assert.assertEquals(List.of("started first", "started second", "queued CANCELLED", "first FINISHED"), events);
+	}
+
+	@Test
+	public void testRemoveFinished() {
+		for (int i = 0; i < BuildQueue.HISTORY_SIZE + 5; i++) {
+			this.queue.finished(this.queue.submit(null, "build " + i, Priority.BULK, List.of()), State.FAILED);
+		}
+		final Build running = this.queue.submit(null, "running", Priority.BULK, List.of());
+
+		Assert.assertEquals(BuildQueue.HISTORY_SIZE + 1, this.queue.getBuilds().size());
+
+		this.queue.removeFinished();
+
+		Assert.assertEquals(List.of(running), this.queue.getBuilds());
+		Assert.assertTrue(State.FAILED.isDone());
+	}
+
+	private static ILaunch createLaunch() {
+		return TestProxies.create(ILaunch.class, Map.of("isTerminated", false));
+	}
+}
@@ -0,0 +1,118 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.debug.core.ILaunch;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.tlcsdm.eclipse.mavenview.BuildQueue.Build;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.Priority;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.State;
+import com.tlcsdm.eclipse.mavenview.ReactorRunPlanner.Run;
+
+public class BuildSchedulerTest {
+
+	private final BuildQueue queue = new BuildQueue(() -> 10, new BuildQueue.Launcher() {
+
+		@Override
+		public void launch(BuildQueue buildQueue, Build build) {
+			// finished by the tests
+		}
+
+		@Override
+		public void terminate(ILaunch launch) {
+			// not launched
+		}
+	});
+
+	private final Run core = createRun("core");
+	private final Run service = createRun("service");
+	private final Run cli = createRun("cli");
+	private final Run docs = createRun("docs");
+	private final Map<Run, Build> builds = new LinkedHashMap<>();
+	private final List<MavenRunnerException> errors = new ArrayList<>();
+	private BuildScheduler scheduler;
+
+	@Test
+	public void testDependentsWaitForUpstream() throws Exception {
+		start(4, this.service, this.cli, this.docs, this.core);
+
+		Assert.assertEquals(List.of(this.docs, this.core), new ArrayList<>(this.builds.keySet()));
+
+		finish(this.core, State.FINISHED);
+
+		Assert.assertEquals(List.of(this.docs, this.core, this.service, this.cli), new ArrayList<>(this.builds.keySet()));
+	}
+
+	@Test
+	public void testParallelism() throws Exception {
+		start(1, this.docs, this.core, this.service);
+
+		Assert.assertEquals(List.of(this.docs), new ArrayList<>(this.builds.keySet()));
+
+		finish(this.docs, State.FINISHED);
+
+		Assert.assertEquals(List.of(this.docs, this.core), new ArrayList<>(this.builds.keySet()));
+	}
+
+	@Test
+	public void testFailFast() throws Exception {
+		start(4, this.core, this.service, this.docs);
+
+		finish(this.core, State.FAILED);
+
+		// service is not launched, the independent docs keep running
+		Assert.assertEquals(List.of(this.core, this.docs), new ArrayList<>(this.builds.keySet()));
+		Assert.assertEquals(State.RUNNING, this.builds.get(this.docs).getState());
+		Assert.assertTrue(this.errors.isEmpty());
+	}
+
+	@Test
+	public void testSubmitError() throws Exception {
+		final MavenRunnerException error = new MavenRunnerException("cannot launch", null);
+		final DependencyGraph<Run> graph = createGraph(List.of(this.docs, this.core));
+		this.scheduler = new BuildScheduler(this.queue, graph, run -> {
+			throw error;
+		}, 4, this.errors::add);
+		this.scheduler.start();
+		this.scheduler.join();
+
+		// the first error stops the run
+		Assert.assertEquals(List.of(error), this.errors);
+	}
+
+	private void start(int parallelism, Run... runs) throws InterruptedException {
+		this.scheduler = new BuildScheduler(this.queue, createGraph(List.of(runs)), run -> {
+			final Build build = this.queue.submit(null, run.project().getName(), Priority.BULK, run.modules());
+			this.builds.put(run, build);
+			return build;
+		}, parallelism, this.errors::add);
+		this.scheduler.start();
+		this.scheduler.join();
+	}
+
+	private void finish(Run run, State state) throws InterruptedException {
+		this.queue.finished(this.builds.get(run), state);
+		// the scheduler reacts in its job
+		this.scheduler.join();
+	}
+
+	private static DependencyGraph<Run> createGraph(List<Run> runs) {
+		// service and cli depend on core
+		return DependencyGraph.create(runs, run -> List.of(run.project().getName()),
+				run -> switch (run.project().getName()) {
+				case "service", "cli" -> List.of("core");
+				default -> List.of();
+				});
+	}
+
+	private static Run createRun(String name) {
+		final IProject project = TestProxies.createNamed(IProject.class, name);
+		return new Run(project, new MavenRunConfig(), List.of(project));
+	}
+}
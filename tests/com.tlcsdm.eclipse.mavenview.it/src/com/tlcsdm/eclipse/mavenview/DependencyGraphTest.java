@@ -0,0 +1,72 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DependencyGraphTest {
+
+	// the keys a project depends on
+	private static final Map<String, List<String>> DEPENDENCIES = Map.of( //
+			"web", List.of("org.example:service", "junit:junit"), //
+			"service", List.of("org.example:core"), //
+			"cli", List.of("org.example:core"), //
+			"core", List.of(), //
+			"docs", List.of());
+
+	@Test
+	public void testOrder() {
+		final DependencyGraph<String> graph = create("web", "service", "docs", "cli", "core");
+
+		Assert.assertEquals(List.of("docs", "core", "service", "web", "cli"), graph.getOrder());
+	}
+
+	@Test
+	public void testUpstreamAndDownstream() {
+		final DependencyGraph<String> graph = create("web", "service", "cli", "core");
+
+		Assert.assertEquals(Set.of("core"), graph.getUpstream("service"));
+		Assert.assertEquals(Set.of(), graph.getUpstream("core"));
+		Assert.assertEquals(Set.of("service", "cli"), graph.getDownstream("core"));
+		// dependencies outside of the graph are ignored
+		Assert.assertEquals(Set.of("service"), graph.getUpstream("web"));
+	}
+
+	@Test
+	public void testUnselectedDependency() {
+		// web depends on service, which is not built
+		final DependencyGraph<String> graph = create("web", "core");
+
+		Assert.assertEquals(List.of("web", "core"), graph.getOrder());
+		Assert.assertEquals(Set.of(), graph.getUpstream("web"));
+	}
+
+	@Test
+	public void testCycle() {
+		// app depends on the cycle of a and b, it is not part of it
+		final Map<String, List<String>> dependencies = Map.of("app", List.of("a"), "a", List.of("b"), "b",
+				List.of("a"));
+
+		final DependencyGraph<String> graph = DependencyGraph.create(List.of("app", "a", "b"), List::of,
+				dependencies::get);
+
+		// the dependency of a, the first node of the cycle, on b is dropped
+		Assert.assertEquals(List.of("a", "app", "b"), graph.getOrder());
+		Assert.assertEquals(Set.of(), graph.getUpstream("a"));
+		Assert.assertEquals(Set.of("a"), graph.getUpstream("b"));
+		Assert.assertEquals(Set.of("a"), graph.getUpstream("app"));
+	}
+
+	private static DependencyGraph<String> create(String... projects) {
+		return DependencyGraph.create(List.of(projects), project -> List.of("org.example:" + project),
+				DependencyGraphTest::getDependencyKeys);
+	}
+
+	private static Collection<String> getDependencyKeys(String project) {
+		return DEPENDENCIES.get(project);
+	}
+}
@@ -0,0 +1,229 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.tlcsdm.eclipse.mavenview.BuildQueue.Build;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.Priority;
+import com.tlcsdm.eclipse.mavenview.BuildQueue.State;
+
+public class DirtyProjectTrackerTest {
+
+	private static final IPath PARENT = IPath.forPosix("/workspace/parent");
+	// the locations of the parent and its nested module
+	private static final Set<IPath> PROJECT_LOCATIONS = Set.of(PARENT, PARENT.append("core"));
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final IProject core = createProject("core");
+	private final IProject web = createProject("web");
+	private final BuildQueue queue = new BuildQueue(() -> 4, new BuildQueue.Launcher() {
+
+		@Override
+		public void launch(BuildQueue buildQueue, Build build) {
+			// finished by the tests
+		}
+
+		@Override
+		public void terminate(ILaunch launch) {
+			// never called
+		}
+	});
+
+	@Before
+	public void setUp() {
+		this.queue.addBuildListener(DirtyProjectTracker.buildListener);
+	}
+
+	@After
+	public void tearDown() {
+		DirtyProjectTracker.clear();
+	}
+
+	@Test
+	public void testUnknownProjectsAreDirty() {
+		DirtyProjectTracker.clear();
+
+		Assert.assertEquals(List.of(this.core, this.web),
+				DirtyProjectTracker.getDirtyProjects(new IProject[] { this.core, this.web }));
+	}
+
+	@Test
+	public void testSuccessfulBuild() {
+		final Build build = submit("install", this.core, this.web);
+
+		// built once Maven succeeded
+		Assert.assertTrue(DirtyProjectTracker.isDirty(this.core));
+
+		this.queue.finished(build, State.FINISHED);
+
+		Assert.assertTrue(DirtyProjectTracker.getDirtyProjects(new IProject[] { this.core, this.web }).isEmpty());
+	}
+
+	@Test
+	public void testFailedBuild() {
+		build("install", this.core, this.web);
+
+		this.queue.finished(submit("clean install", this.core), State.FAILED);
+
+		Assert.assertEquals(List.of(this.core),
+				DirtyProjectTracker.getDirtyProjects(new IProject[] { this.core, this.web }));
+	}
+
+	@Test
+	public void testCancelledBuild() {
+		build("install", this.core);
+		final Build build = submit("install", this.core);
+
+		this.queue.cancel(build);
+		this.queue.finished(build, State.FINISHED);
+
+		Assert.assertTrue(DirtyProjectTracker.isDirty(this.core));
+	}
+
+	@Test
+	public void testChangedWhileBuilding() {
+		final Build build = submit("install", this.core, this.web);
+
+		DirtyProjectTracker.markDirty("core");
+		this.queue.finished(build, State.FINISHED);
+
+		Assert.assertEquals(List.of(this.core),
+				DirtyProjectTracker.getDirtyProjects(new IProject[] { this.core, this.web }));
+
+		// the next build includes the change
+		build("install", this.core);
+
+		Assert.assertFalse(DirtyProjectTracker.isDirty(this.core));
+	}
+
+	@Test
+	public void testPluginGoals() {
+		build("clean checkstyle:check", this.core);
+
+		Assert.assertTrue(DirtyProjectTracker.isDirty(this.core));
+	}
+
+	@Test
+	public void testIsBuild() {
+		Assert.assertTrue(DirtyProjectTracker.isBuild(" clean  install -pl core -am"));
+		Assert.assertTrue(DirtyProjectTracker.isBuild("compile checkstyle:check"));
+		Assert.assertFalse(DirtyProjectTracker.isBuild("clean"));
+		Assert.assertFalse(DirtyProjectTracker.isBuild("dependency:tree"));
+		Assert.assertFalse(DirtyProjectTracker.isBuild(""));
+	}
+
+	@Test
+	public void testReadAndWrite() throws Exception {
+		final Path file = this.temporaryFolder.getRoot().toPath().resolve(DirtyProjectTracker.FILE_NAME);
+		build("install", this.web, this.core);
+		DirtyProjectTracker.write(file);
+
+		Assert.assertEquals(List.of("core", "web"), Files.readAllLines(file, StandardCharsets.UTF_8));
+
+		DirtyProjectTracker.clear();
+		DirtyProjectTracker.read(file);
+
+		Assert.assertFalse(DirtyProjectTracker.isDirty(this.core));
+		Assert.assertFalse(DirtyProjectTracker.isDirty(this.web));
+	}
+
+	@Test
+	public void testChangedSource() {
+		final IResourceDelta delta = createDelta(IResource.FOLDER, "src",
+				createDelta(IResource.FILE, "src/App.java", IResourceDelta.CHANGED, IResourceDelta.CONTENT));
+
+		Assert.assertTrue(DirtyProjectTracker.hasChangedFiles(createProjectDelta(delta), PROJECT_LOCATIONS));
+	}
+
+	@Test
+	public void testChangedMarkers() {
+		final IResourceDelta delta = createDelta(IResource.FOLDER, "src",
+				createDelta(IResource.FILE, "src/App.java", IResourceDelta.CHANGED, IResourceDelta.MARKERS));
+
+		Assert.assertFalse(DirtyProjectTracker.hasChangedFiles(createProjectDelta(delta), PROJECT_LOCATIONS));
+	}
+
+	@Test
+	public void testBuildDirectoryAndMetadata() {
+		final IResourceDelta target = createDelta(IResource.FOLDER, "target",
+				createDelta(IResource.FILE, "target/app.jar", IResourceDelta.ADDED, 0));
+		final IResourceDelta settings = createDelta(IResource.FOLDER, ".settings",
+				createDelta(IResource.FILE, ".settings/org.eclipse.jdt.core.prefs", IResourceDelta.CHANGED,
+						IResourceDelta.CONTENT));
+		final IResourceDelta mvn = createDelta(IResource.FOLDER, ".mvn",
+				createDelta(IResource.FILE, ".mvn/maven.config", IResourceDelta.CHANGED, IResourceDelta.CONTENT));
+
+		Assert.assertFalse(
+				DirtyProjectTracker.hasChangedFiles(createProjectDelta(target, settings), PROJECT_LOCATIONS));
+		// the Maven configuration affects the build
+		Assert.assertTrue(DirtyProjectTracker.hasChangedFiles(createProjectDelta(mvn), PROJECT_LOCATIONS));
+	}
+
+	@Test
+	public void testNestedProject() {
+		final IResourceDelta delta = createDelta(IResource.FOLDER, "core", createDelta(IResource.FOLDER, "core/src",
+				createDelta(IResource.FILE, "core/src/App.java", IResourceDelta.CHANGED, IResourceDelta.CONTENT)));
+
+		// the module is dirty, not its aggregator
+		Assert.assertFalse(DirtyProjectTracker.hasChangedFiles(createProjectDelta(delta), PROJECT_LOCATIONS));
+	}
+
+	@Test
+	public void testAddedProject() {
+		final IResourceDelta delta = TestProxies.create(IResourceDelta.class,
+				Map.of("getKind", IResourceDelta.ADDED));
+
+		Assert.assertTrue(DirtyProjectTracker.hasChangedFiles(delta, PROJECT_LOCATIONS));
+	}
+
+	private Build submit(String goals, IProject... projects) {
+		final ILaunchConfiguration configuration = TestProxies.create(ILaunchConfiguration.class,
+				Map.of("getAttribute", goals));
+		return this.queue.submit(configuration, goals, Priority.BULK, List.of(projects));
+	}
+
+	private void build(String goals, IProject... projects) {
+		this.queue.finished(submit(goals, projects), State.FINISHED);
+	}
+
+	private static IResourceDelta createProjectDelta(IResourceDelta... children) {
+		return TestProxies.create(IResourceDelta.class,
+				Map.of("getKind", IResourceDelta.CHANGED, "getAffectedChildren", children));
+	}
+
+	private static IResourceDelta createDelta(int type, String path, IResourceDelta... children) {
+		return createDelta(type, path, IResourceDelta.CHANGED, 0, children);
+	}
+
+	private static IResourceDelta createDelta(int type, String path, int kind, int flags,
+			IResourceDelta... children) {
+		final IPath location = PARENT.append(path);
+		final IResource resource = TestProxies.create(IResource.class, Map.of("getName", location.lastSegment(),
+				"getType", type, "getLocation", location, "isDerived", false, "isTeamPrivateMember", false));
+		return TestProxies.create(IResourceDelta.class, Map.of("getResource", resource, "getKind", kind,
+				"getFlags", flags, "getAffectedChildren", children));
+	}
+
+	private static IProject createProject(String name) {
+		return TestProxies.createNamed(IProject.class, name);
+	}
+}
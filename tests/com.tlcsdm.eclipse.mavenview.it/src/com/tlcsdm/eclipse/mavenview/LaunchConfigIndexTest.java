@@ -0,0 +1,102 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LaunchConfigIndexTest {
+
+	private final ILaunchConfiguration workspaceConfig = createLaunchConfiguration("workspace");
+	private final ILaunchConfiguration projectConfig = createLaunchConfiguration("project");
+	private final ILaunchConfiguration otherConfig = createLaunchConfiguration("other");
+	private final MavenRunConfig runConfig = new MavenRunConfig().phases(Phase.CLEAN, Phase.VERIFY).profiles("ci")
+			.goals("checkstyle:check").projects("core").alsoMake(true);
+
+	@Before
+	public void setUp() {
+		LaunchConfigIndex.clear();
+		LaunchConfigIndex.put(this.workspaceConfig, "${workspace_loc:/example}", null);
+		LaunchConfigIndex.put(this.otherConfig, "${workspace_loc:/other}", this.runConfig);
+		LaunchConfigIndex.put(this.projectConfig, "${project_loc:example}", null);
+	}
+
+	@After
+	public void tearDown() {
+		LaunchConfigIndex.disconnect();
+	}
+
+	@Test
+	public void testGetLaunchConfigurations() {
+		Assert.assertArrayEquals(new ILaunchConfiguration[] { this.workspaceConfig, this.projectConfig },
+				LaunchConfigIndex.getLaunchConfigurations(createProject("example")));
+		Assert.assertEquals(0, LaunchConfigIndex.getLaunchConfigurations(createProject("unknown")).length);
+	}
+
+	@Test
+	public void testFindLaunchConfigurations() {
+		Assert.assertEquals(List.of(this.otherConfig),
+				LaunchConfigIndex.findLaunchConfigurations("${workspace_loc:/other}", this.runConfig));
+		Assert.assertTrue(LaunchConfigIndex.findLaunchConfigurations("${workspace_loc:/other}", new MavenRunConfig())
+				.isEmpty());
+		// an equal config of another project
+		Assert.assertTrue(
+				LaunchConfigIndex.findLaunchConfigurations("${workspace_loc:/example}", this.runConfig).isEmpty());
+	}
+
+	@Test
+	public void testFindLaunchConfigurationsOfEqualConfig() {
+		final MavenRunConfig equalConfig = new MavenRunConfig().phases(Phase.VERIFY, Phase.CLEAN).profiles("ci")
+				.goals("checkstyle:check").projects("core").alsoMake(true);
+
+		Assert.assertEquals(List.of(this.otherConfig),
+				LaunchConfigIndex.findLaunchConfigurations("${workspace_loc:/other}", equalConfig));
+	}
+
+	@Test
+	public void testAdd() {
+		final ILaunchConfiguration createdConfig = createLaunchConfiguration("created");
+		final MavenRunConfig config = new MavenRunConfig().phases(Phase.INSTALL);
+		LaunchConfigIndex.add(createdConfig, "/work/example", config);
+		// changing the config afterwards does not change the index
+		config.setPhases(Phase.PACKAGE);
+
+		Assert.assertEquals(List.of(createdConfig), LaunchConfigIndex.findLaunchConfigurations("/work/example",
+				new MavenRunConfig().phases(Phase.INSTALL)));
+		Assert.assertTrue(LaunchConfigIndex.findLaunchConfigurations("/work/example", config).isEmpty());
+	}
+
+	@Test
+	public void testRemove() {
+		LaunchConfigIndex.remove(this.workspaceConfig);
+		LaunchConfigIndex.remove(this.otherConfig);
+
+		Assert.assertArrayEquals(new ILaunchConfiguration[] { this.projectConfig },
+				LaunchConfigIndex.getLaunchConfigurations(createProject("example")));
+		Assert.assertTrue(
+				LaunchConfigIndex.findLaunchConfigurations("${workspace_loc:/other}", this.runConfig).isEmpty());
+	}
+
+	@Test
+	public void testChangedWorkingDirectory() {
+		// a changed configuration is removed and added again
+		LaunchConfigIndex.remove(this.otherConfig);
+		LaunchConfigIndex.put(this.otherConfig, "${project_loc:example}", this.runConfig);
+
+		Assert.assertArrayEquals(new ILaunchConfiguration[] { this.workspaceConfig, this.projectConfig, this.otherConfig },
+				LaunchConfigIndex.getLaunchConfigurations(createProject("example")));
+		Assert.assertEquals(0, LaunchConfigIndex.getLaunchConfigurations(createProject("other")).length);
+	}
+
+	private static ILaunchConfiguration createLaunchConfiguration(String name) {
+		return TestProxies.createNamed(ILaunchConfiguration.class, name);
+	}
+
+	private static IProject createProject(String name) {
+		return TestProxies.createNamed(IProject.class, name);
+	}
+}
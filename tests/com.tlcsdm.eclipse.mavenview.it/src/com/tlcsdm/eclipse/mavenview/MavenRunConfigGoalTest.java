@@ -26,6 +26,22 @@ public class MavenRunConfigGoalTest {
 
 				{new MavenRunConfig().phases(Phase.INSTALL, Phase.COMPILE, Phase.DEPLOY), "compile install deploy"},
 
+				{new MavenRunConfig().phases(Phase.INSTALL).projects("core", "modules/web"), "install -pl core,modules/web"},
+
+				{new MavenRunConfig().phases(Phase.CLEAN, Phase.INSTALL).projects("core").alsoMake(true), "clean install -pl core -am"},
+
+				{new MavenRunConfig().phases(Phase.INSTALL).alsoMake(true), "install"},
+
+				{new MavenRunConfig().phases(Phase.INSTALL).projects("core").alsoMake(true).copy(), "install -pl core -am"},
+
+				{new MavenRunConfig().phases().goals("checkstyle:check", "enforcer:enforce"), "checkstyle:check enforcer:enforce"},
+
+				{new MavenRunConfig().phases(Phase.VERIFY, Phase.CLEAN).goals("spotbugs:check"), "clean verify spotbugs:check"},
+
+				{new MavenRunConfig().phases(Phase.INSTALL).goals("enforcer:enforce").projects("core").copy(), "install enforcer:enforce -pl core"},
+
+				{new MavenRunConfig().phases(Phase.INSTALL).projects("core", ".").alsoMakeDependents(true).copy(), "install -pl core,. -amd"},
+
 		});
 	}
 
@@ -42,4 +58,12 @@ public class MavenRunConfigGoalTest {
 		Assert.assertEquals(this.goalString, this.config.toGoalString());
 	}
 
+	@Test
+	public void testEqualsCopy() {
+		final MavenRunConfig copy = this.config.copy();
+		Assert.assertEquals(this.config, copy);
+		Assert.assertEquals(this.config.hashCode(), copy.hashCode());
+		Assert.assertNotEquals(this.config, copy.alsoMakeDependents(!copy.isAlsoMakeDependents()));
+	}
+
 }
@@ -27,6 +27,13 @@ public class MavenViewPreferencesTest {
 	public void setUp() throws Exception {
 		this.preferences = Activator.getDefault().getPreferenceStore();
 		this.preferences.setToDefault(MavenViewPreferences.INITIAL_PROJECT_SELECTION);
+		this.preferences.setToDefault(MavenViewPreferences.VIRTUAL_TREE);
+		this.preferences.setToDefault(MavenViewPreferences.RESOLVED_DEPENDENCIES);
+		this.preferences.setToDefault(MavenViewPreferences.REACTOR_RUNS);
+		this.preferences.setToDefault(MavenViewPreferences.REACTOR_ALSO_MAKE);
+		this.preferences.setToDefault(MavenViewPreferences.MAX_CONCURRENT_BUILDS);
+		this.preferences.setToDefault(MavenViewPreferences.BATCH_GOALS);
+		this.preferences.setToDefault(MavenViewPreferences.BUILD_CACHE);
 
 		AbstractFetchMavenProjectsTest.deleteAllProjects();
 	}
@@ -256,4 +263,82 @@ public class MavenViewPreferencesTest {
 
 		Assert.assertEquals("", this.preferences.getString(MavenViewPreferences.NEVER_SELECTED_PROJECTS));
 	}
+
+	@Test
+	public void testVirtualTreeDefault() throws Exception {
+		Assert.assertFalse(MavenViewPreferences.isVirtualTree());
+	}
+
+	@Test
+	public void testSetVirtualTree() throws Exception {
+		MavenViewPreferences.setVirtualTree(true);
+
+		Assert.assertTrue(this.preferences.getBoolean(MavenViewPreferences.VIRTUAL_TREE));
+		Assert.assertTrue(MavenViewPreferences.isVirtualTree());
+	}
+
+	@Test
+	public void testResolvedDependenciesDefault() throws Exception {
+		Assert.assertFalse(MavenViewPreferences.isResolvedDependencies());
+	}
+
+	@Test
+	public void testSetResolvedDependencies() throws Exception {
+		MavenViewPreferences.setResolvedDependencies(true);
+
+		Assert.assertTrue(this.preferences.getBoolean(MavenViewPreferences.RESOLVED_DEPENDENCIES));
+		Assert.assertTrue(MavenViewPreferences.isResolvedDependencies());
+	}
+
+	@Test
+	public void testReactorRunsDefault() throws Exception {
+		Assert.assertTrue(MavenViewPreferences.isReactorRuns());
+		Assert.assertFalse(MavenViewPreferences.isReactorAlsoMake());
+	}
+
+	@Test
+	public void testSetReactorRuns() throws Exception {
+		MavenViewPreferences.setReactorRuns(false);
+		MavenViewPreferences.setReactorAlsoMake(true);
+
+		Assert.assertFalse(this.preferences.getBoolean(MavenViewPreferences.REACTOR_RUNS));
+		Assert.assertTrue(this.preferences.getBoolean(MavenViewPreferences.REACTOR_ALSO_MAKE));
+	}
+
+	@Test
+	public void testMaxConcurrentBuildsDefault() throws Exception {
+		Assert.assertEquals(2, MavenViewPreferences.getMaxConcurrentBuilds());
+	}
+
+	@Test
+	public void testSetMaxConcurrentBuilds() throws Exception {
+		MavenViewPreferences.setMaxConcurrentBuilds(4);
+
+		Assert.assertEquals(4, this.preferences.getInt(MavenViewPreferences.MAX_CONCURRENT_BUILDS));
+		Assert.assertEquals(4, MavenViewPreferences.getMaxConcurrentBuilds());
+	}
+
+	@Test
+	public void testBatchGoalsDefault() throws Exception {
+		Assert.assertTrue(MavenViewPreferences.isBatchGoals());
+	}
+
+	@Test
+	public void testSetBatchGoals() throws Exception {
+		MavenViewPreferences.setBatchGoals(false);
+
+		Assert.assertFalse(this.preferences.getBoolean(MavenViewPreferences.BATCH_GOALS));
+	}
+
+	@Test
+	public void testBuildCacheDefault() throws Exception {
+		Assert.assertFalse(MavenViewPreferences.isBuildCache());
+	}
+
+	@Test
+	public void testSetBuildCache() throws Exception {
+		MavenViewPreferences.setBuildCache(true);
+
+		Assert.assertTrue(this.preferences.getBoolean(MavenViewPreferences.BUILD_CACHE));
+	}
 }
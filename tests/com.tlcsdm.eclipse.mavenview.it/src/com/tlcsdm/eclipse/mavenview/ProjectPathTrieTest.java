@@ -0,0 +1,75 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ProjectPathTrieTest {
+
+	private final ProjectPathTrie trie = new ProjectPathTrie();
+
+	@Test
+	public void testEmpty() {
+		Assert.assertTrue(this.trie.getRoots().isEmpty());
+	}
+
+	@Test
+	public void testNestedProjects() {
+		this.trie.add(IPath.forPosix("/workspace/parent/child/grandchild"));
+		this.trie.add(IPath.forPosix("/workspace/parent"));
+		this.trie.add(IPath.forPosix("/workspace/parent/child"));
+		this.trie.add(IPath.forPosix("/workspace/other"));
+
+		Assert.assertEquals(Set.of(IPath.forPosix("/workspace/parent"), IPath.forPosix("/workspace/other")),
+				this.trie.getRoots());
+	}
+
+	@Test
+	public void testSiblingsWithCommonPrefix() {
+		// "/workspace/lib" is no prefix of "/workspace/library", only whole segments count
+		this.trie.add(IPath.forPosix("/workspace/library"));
+		this.trie.add(IPath.forPosix("/workspace/lib"));
+
+		Assert.assertEquals(Set.of(IPath.forPosix("/workspace/lib"), IPath.forPosix("/workspace/library")),
+				this.trie.getRoots());
+	}
+
+	@Test
+	public void testSameLocationTwice() {
+		this.trie.add(IPath.forPosix("/workspace/project"));
+		this.trie.add(IPath.forPosix("/workspace/project"));
+
+		Assert.assertEquals(Set.of(IPath.forPosix("/workspace/project")), this.trie.getRoots());
+	}
+
+	@Test
+	public void testDevices() {
+		this.trie.add(IPath.forWindows("C:/workspace/project"));
+		this.trie.add(IPath.forWindows("D:/workspace/project"));
+		this.trie.add(IPath.forWindows("D:/workspace/project/module"));
+
+		Assert.assertEquals(
+				Set.of(IPath.forWindows("C:/workspace/project"), IPath.forWindows("D:/workspace/project")),
+				this.trie.getRoots());
+	}
+
+	@Test
+	public void testDeviceCase() {
+		this.trie.add(IPath.forWindows("C:/workspace/project"));
+		this.trie.add(IPath.forWindows("c:/workspace/project/module"));
+
+		Assert.assertEquals(Set.of(IPath.forWindows("C:/workspace/project")), this.trie.getRoots());
+	}
+
+	@Test
+	public void testManyNestedProjects() {
+		for (int i = 0; i < 2_000; i++) {
+			this.trie.add(IPath.forPosix("/workspace/monorepo/module" + (i % 20) + "/submodule" + i));
+		}
+		this.trie.add(IPath.forPosix("/workspace/monorepo"));
+
+		Assert.assertEquals(Set.of(IPath.forPosix("/workspace/monorepo")), this.trie.getRoots());
+	}
+}
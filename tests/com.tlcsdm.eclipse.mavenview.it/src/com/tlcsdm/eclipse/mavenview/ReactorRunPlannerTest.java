@@ -0,0 +1,133 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ReactorRunPlannerTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testReadModules() throws Exception {
+		final String pom = "<project><modules><module>core</module><module> web/pom.xml </module></modules>"
+				+ "<profiles><profile><modules><module>extra</module></modules></profile></profiles></project>";
+
+		Assert.assertEquals(Arrays.asList("core", "web/pom.xml"), ReactorRunPlanner
+				.readModules(new ByteArrayInputStream(pom.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	public void testGetSelector() {
+		final IPath root = IPath.forPosix("/workspace/root");
+
+		Assert.assertEquals(".", ReactorRunPlanner.getSelector(root, root));
+		Assert.assertEquals("modules/core", ReactorRunPlanner.getSelector(root, root.append("modules/core")));
+	}
+
+	@Test
+	public void testIsModule() throws Exception {
+		final Path root = this.temporaryFolder.getRoot().toPath();
+		writePom(root, "<module>modules</module><module>tools/pom.xml</module>");
+		writePom(root.resolve("modules"), "<module>core</module>");
+		writePom(root.resolve("modules/core"), "");
+		writePom(root.resolve("tools"), "");
+		// not listed in any modules
+		writePom(root.resolve("modules/orphan"), "");
+
+		final IPath rootPath = IPath.fromFile(root.toFile());
+		final ReactorRunPlanner planner = new ReactorRunPlanner();
+
+		Assert.assertTrue(planner.isModule(rootPath, rootPath));
+		Assert.assertTrue(planner.isModule(rootPath, rootPath.append("modules/core")));
+		Assert.assertTrue(planner.isModule(rootPath, rootPath.append("tools")));
+		Assert.assertFalse(planner.isModule(rootPath, rootPath.append("modules/orphan")));
+		Assert.assertFalse(planner.isModule(rootPath, rootPath.append("missing")));
+	}
+
+	@Test
+	public void testIsModuleOfFlatLayout() throws Exception {
+		final Path root = this.temporaryFolder.getRoot().toPath();
+		writePom(root.resolve("parent"), "<module>../core</module><module>../tools/pom.xml</module>");
+		writePom(root.resolve("core"), "");
+		writePom(root.resolve("tools"), "");
+
+		final IPath rootPath = IPath.fromFile(root.toFile());
+		final ReactorRunPlanner planner = new ReactorRunPlanner();
+
+		Assert.assertTrue(planner.isModule(rootPath.append("parent"), rootPath.append("core")));
+		Assert.assertTrue(planner.isModule(rootPath.append("parent"), rootPath.append("tools")));
+		Assert.assertFalse(planner.isModule(rootPath.append("core"), rootPath.append("parent")));
+	}
+
+	@Test
+	public void testCreateRuns() throws Exception {
+		final Path root = this.temporaryFolder.getRoot().toPath();
+		writePom(root.resolve("parent"), "<module>../core</module><module>../web</module><module>../tools</module>");
+		writePom(root.resolve("core"), "");
+		writePom(root.resolve("web"), "");
+		writePom(root.resolve("tools"), "");
+		writePom(root.resolve("other"), "");
+		final IProject parent = createProject(root, "parent");
+		final IProject core = createProject(root, "core");
+		final IProject web = createProject(root, "web");
+		final IProject tools = createProject(root, "tools");
+		final IProject other = createProject(root, "other");
+		final IProject[] mavenProjects = { core, web, tools, other, parent };
+
+		final Map<IProject, MavenRunConfig> configs = new LinkedHashMap<>();
+		configs.put(core, new MavenRunConfig().phases(Phase.INSTALL));
+		configs.put(other, new MavenRunConfig().phases(Phase.INSTALL));
+		configs.put(web, new MavenRunConfig().phases(Phase.INSTALL));
+		// other profiles, so not built together with core and web
+		configs.put(tools, new MavenRunConfig().phases(Phase.INSTALL).profiles("release"));
+
+		final List<ReactorRunPlanner.Run> runs = new ReactorRunPlanner().createRuns(configs, mavenProjects, true,
+				false);
+
+		Assert.assertEquals(3, runs.size());
+		Assert.assertEquals(parent, runs.get(0).project());
+		Assert.assertEquals(List.of(core, web), runs.get(0).modules());
+		Assert.assertArrayEquals(new String[] { "../core", "../web" }, runs.get(0).config().getProjects());
+		Assert.assertTrue(runs.get(0).config().isAlsoMake());
+		Assert.assertEquals(new ReactorRunPlanner.Run(other, configs.get(other)), runs.get(1));
+		Assert.assertEquals(new ReactorRunPlanner.Run(tools, configs.get(tools)), runs.get(2));
+
+		// a single project is launched from its aggregator as well
+		final List<ReactorRunPlanner.Run> aggregatorRuns = new ReactorRunPlanner().createRuns(configs,
+				mavenProjects, false, true);
+
+		Assert.assertEquals(3, aggregatorRuns.size());
+		Assert.assertEquals(other, aggregatorRuns.get(1).project());
+		Assert.assertArrayEquals(new String[] { "." }, aggregatorRuns.get(1).config().getProjects());
+		Assert.assertEquals(parent, aggregatorRuns.get(2).project());
+		Assert.assertEquals(List.of(tools), aggregatorRuns.get(2).modules());
+		Assert.assertArrayEquals(new String[] { "../tools" }, aggregatorRuns.get(2).config().getProjects());
+		Assert.assertArrayEquals(new String[] { "release" }, aggregatorRuns.get(2).config().getProfiles());
+	}
+
+	private static IProject createProject(Path root, String name) {
+		return TestProxies.create(IProject.class,
+				Map.of("getName", name, "toString", name, "getLocation", IPath.fromFile(root.resolve(name).toFile())));
+	}
+
+	private static void writePom(Path directory, String modules) throws IOException {
+		Files.createDirectories(directory);
+		Files.writeString(directory.resolve(MavenRunner.POM_FILE_NAME),
+				"<project><modules>" + modules + "</modules></project>");
+	}
+}
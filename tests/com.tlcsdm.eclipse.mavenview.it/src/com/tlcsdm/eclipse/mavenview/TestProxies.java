@@ -0,0 +1,42 @@
+package com.tlcsdm.eclipse.mavenview;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Stubs of platform interfaces that answer a few methods with fixed results.
+ * Every other method throws an {@link UnsupportedOperationException}, equality
+ * is identity.
+ */
+final class TestProxies {
+
+	private TestProxies() {
+	}
+
+	/**
+	 * Returns a stub whose <code>getName</code> and <code>toString</code> return
+	 * the name.
+	 */
+	static <T> T createNamed(Class<T> type, String name) {
+		return create(type, Map.of("getName", name, "toString", name));
+	}
+
+	/**
+	 * Returns a stub that answers the methods with the given names with the given
+	 * results.
+	 */
+	static <T> T create(Class<T> type, Map<String, ?> results) {
+		final Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(instance, method, args) -> switch (method.getName()) {
+				case "hashCode" -> System.identityHashCode(instance);
+				case "equals" -> instance == args[0];
+				default -> {
+					if (!results.containsKey(method.getName())) {
+						throw new UnsupportedOperationException(method.getName());
+					}
+					yield results.get(method.getName());
+				}
+				});
+		return type.cast(proxy);
+	}
+}
@@ -0,0 +1,82 @@
+package com.tlcsdm.eclipse.mavenview.internal.common;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Measures the cost per parse of a small pom.xml with a freshly created parser
+ * (as it was done before the parsers were cached) and with the parsers cached
+ * by {@link SecureXmlParser}. Run it as a plain Java application, it is no
+ * test.
+ */
+public final class SecureXmlParserBenchmark {
+
+	private static final int WARMUP_ITERATIONS = 2_000;
+	private static final int ITERATIONS = 10_000;
+
+	private static final byte[] POM = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<project xmlns="http://maven.apache.org/POM/4.0.0">
+				<modelVersion>4.0.0</modelVersion>
+				<groupId>org.example</groupId>
+				<artifactId>example</artifactId>
+				<version>1.0.0</version>
+				<dependencies>
+					<dependency>
+						<groupId>junit</groupId>
+						<artifactId>junit</artifactId>
+						<version>4.13.2</version>
+						<scope>test</scope>
+					</dependency>
+				</dependencies>
+			</project>
+			""".getBytes(StandardCharsets.UTF_8);
+
+	private SecureXmlParserBenchmark() {
+		// hidden
+	}
+
+	public static void main(String[] args) throws Exception {
+		measure("DOM, new factory per parse",
+				() -> parse(SecureXmlParser.createSecureDocumentBuilderFactory().newDocumentBuilder()));
+		measure("DOM, cached builder", () -> parse(SecureXmlParser.getSecureDocumentBuilder()));
+		measure("StAX, new factory per parse", () -> parse(SecureXmlParser.createSecureXmlInputFactory()));
+		measure("StAX, cached factory", () -> parse(SecureXmlParser.getSecureXmlInputFactory()));
+	}
+
+	private static Object parse(DocumentBuilder builder) throws Exception {
+		return builder.parse(new ByteArrayInputStream(POM));
+	}
+
+	private static Object parse(XMLInputFactory factory) throws Exception {
+		final XMLStreamReader reader = factory.createXMLStreamReader(new ByteArrayInputStream(POM));
+		try {
+			int events = 0;
+			while (reader.hasNext()) {
+				reader.next();
+				events++;
+			}
+			return events;
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static void measure(String name, Callable<Object> parse) throws Exception {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			parse.call();
+		}
+
+		final long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			parse.call();
+		}
+		final long nanosPerParse = (System.nanoTime() - start) / ITERATIONS;
+		System.out.printf("%-30s %,8d ns/parse%n", name, nanosPerParse);
+	}
+}
@@ -0,0 +1,49 @@
+package com.tlcsdm.eclipse.mavenview.internal.common;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import javax.xml.parsers.DocumentBuilder;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+public class SecureXmlParserTest {
+
+	@Test
+	public void testGetSecureDocumentBuilder() throws Exception {
+		final DocumentBuilder builder = SecureXmlParser.getSecureDocumentBuilder();
+		final Document document = builder.parse(toStream("<project><artifactId>a</artifactId></project>"));
+
+		Assert.assertEquals("project", document.getDocumentElement().getNodeName());
+		// reset and reused by the same thread
+		Assert.assertSame(builder, SecureXmlParser.getSecureDocumentBuilder());
+	}
+
+	@Test
+	public void testGetSecureDocumentBuilderOfOtherThread() throws Exception {
+		final DocumentBuilder builder = SecureXmlParser.getSecureDocumentBuilder();
+		final DocumentBuilder otherBuilder = CompletableFuture.supplyAsync(() -> {
+			try {
+				return SecureXmlParser.getSecureDocumentBuilder();
+			} catch (final Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}).get();
+
+		Assert.assertNotSame(builder, otherBuilder);
+	}
+
+	@Test(expected = SAXException.class)
+	public void testGetSecureDocumentBuilderRejectsDoctype() throws Exception {
+		SecureXmlParser.getSecureDocumentBuilder().parse(toStream(
+				"<!DOCTYPE project [<!ENTITY x SYSTEM \"file:///etc/passwd\">]><project>&x;</project>"));
+	}
+
+	private static ByteArrayInputStream toStream(String xml) {
+		return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+	}
+}
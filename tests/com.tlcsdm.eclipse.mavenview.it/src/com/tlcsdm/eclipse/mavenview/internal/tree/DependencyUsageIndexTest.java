@@ -0,0 +1,91 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DependencyUsageIndexTest {
+
+	private static final Dependency JACKSON = new Dependency("com.fasterxml.jackson.core", "jackson-databind",
+			"2.17.0", null);
+	private static final Dependency JACKSON_OLD = new Dependency("com.fasterxml.jackson.core", "jackson-databind",
+			"2.15.2", "test");
+	private static final Dependency JUNIT = new Dependency("junit", "junit", "4.13.2", "test");
+
+	@Before
+	@After
+	public void clear() {
+		DependencyUsageIndex.clear();
+	}
+
+	@Test
+	public void testFindUsages() {
+		DependencyUsageIndex.update("b", snapshot(JACKSON, JUNIT));
+		DependencyUsageIndex.update("a", snapshot(JACKSON_OLD));
+		DependencyUsageIndex.update("c", snapshot(JUNIT));
+
+		final List<DependencyUsageIndex.Usage> usages = DependencyUsageIndex
+				.findUsages("com.fasterxml.jackson.core", "jackson-databind", null);
+
+		Assert.assertEquals(List.of(new DependencyUsageIndex.Usage("a", JACKSON_OLD),
+				new DependencyUsageIndex.Usage("b", JACKSON)), usages);
+	}
+
+	@Test
+	public void testFindUsagesOfVersion() {
+		DependencyUsageIndex.update("a", snapshot(JACKSON_OLD));
+		DependencyUsageIndex.update("b", snapshot(JACKSON));
+
+		Assert.assertEquals(List.of(new DependencyUsageIndex.Usage("b", JACKSON)),
+				DependencyUsageIndex.findUsages("com.fasterxml.jackson.core", "jackson-databind", "2.17.0"));
+		Assert.assertTrue(DependencyUsageIndex.findUsages("com.fasterxml.jackson.core", "jackson-databind", "1.0").isEmpty());
+	}
+
+	@Test
+	public void testFindUnknown() {
+		DependencyUsageIndex.update("a", snapshot(JUNIT));
+
+		Assert.assertTrue(DependencyUsageIndex.findUsages("org.example", "unknown", null).isEmpty());
+	}
+
+	@Test
+	public void testUpdateReplacesDependencies() {
+		DependencyUsageIndex.update("a", snapshot(JACKSON, JUNIT));
+		DependencyUsageIndex.update("a", snapshot(JUNIT));
+
+		Assert.assertTrue(DependencyUsageIndex.findUsages("com.fasterxml.jackson.core", "jackson-databind", null).isEmpty());
+		Assert.assertEquals(List.of(new DependencyUsageIndex.Usage("a", JUNIT)),
+				DependencyUsageIndex.findUsages("junit", "junit", null));
+	}
+
+	@Test
+	public void testRemove() {
+		DependencyUsageIndex.update("a", snapshot(JUNIT));
+		DependencyUsageIndex.update("b", snapshot(JUNIT));
+		DependencyUsageIndex.remove("a");
+
+		Assert.assertEquals(List.of(new DependencyUsageIndex.Usage("b", JUNIT)),
+				DependencyUsageIndex.findUsages("junit", "junit", null));
+	}
+
+	@Test
+	public void testManyProjects() {
+		for (int i = 0; i < 1_000; i++) {
+			final Dependency[] dependencies = new Dependency[50];
+			for (int j = 0; j < dependencies.length; j++) {
+				dependencies[j] = new Dependency("org.example", "lib" + ((i + j) % 200), "1." + (i % 3), null);
+			}
+			DependencyUsageIndex.update("project" + i, snapshot(dependencies));
+		}
+
+		Assert.assertEquals(250, DependencyUsageIndex.findUsages("org.example", "lib0", null).size());
+		Assert.assertEquals(84, DependencyUsageIndex.findUsages("org.example", "lib0", "1.0").size());
+	}
+
+	private static ProjectModelSnapshot snapshot(Dependency... dependencies) {
+		return new ProjectModelSnapshot(1, new Profile[0], new Plugin[0], dependencies);
+	}
+}
@@ -0,0 +1,207 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.ILogListener;
+import org.eclipse.core.runtime.IStatus;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.tlcsdm.eclipse.mavenview.Activator;
+
+public class MavenModelAccessorTest {
+
+	public static class FakeMavenProject {
+
+		private final FakeModel model;
+		private final List<FakeArtifact> buildPlugins;
+
+		FakeMavenProject(FakeModel model, FakeArtifact... buildPlugins) {
+			this.model = model;
+			this.buildPlugins = Arrays.asList(buildPlugins);
+		}
+
+		public FakeModel getModel() {
+			return this.model;
+		}
+
+		public List<FakeArtifact> getBuildPlugins() {
+			return this.buildPlugins;
+		}
+	}
+
+	/**
+	 * A Maven project without <code>getBuildPlugins()</code>, like one of an
+	 * incompatible Maven version.
+	 */
+	public static class IncompatibleMavenProject {
+
+		private final FakeModel model;
+
+		IncompatibleMavenProject(FakeModel model) {
+			this.model = model;
+		}
+
+		public FakeModel getModel() {
+			return this.model;
+		}
+	}
+
+	public static class FakeModel {
+
+		private final List<FakeProfile> profiles;
+		private final List<FakeArtifact> dependencies;
+
+		FakeModel(List<FakeProfile> profiles, List<FakeArtifact> dependencies) {
+			this.profiles = profiles;
+			this.dependencies = dependencies;
+		}
+
+		public List<FakeProfile> getProfiles() {
+			return this.profiles;
+		}
+
+		public List<FakeArtifact> getDependencies() {
+			return this.dependencies;
+		}
+	}
+
+	public static class FakeProfile {
+
+		private final String id;
+		private final FakeActivation activation;
+
+		FakeProfile(String id, FakeActivation activation) {
+			this.id = id;
+			this.activation = activation;
+		}
+
+		public String getId() {
+			return this.id;
+		}
+
+		public FakeActivation getActivation() {
+			return this.activation;
+		}
+	}
+
+	public static class FakeActivation {
+
+		private final boolean activeByDefault;
+
+		FakeActivation(boolean activeByDefault) {
+			this.activeByDefault = activeByDefault;
+		}
+
+		public boolean isActiveByDefault() {
+			return this.activeByDefault;
+		}
+	}
+
+	public static class FakeArtifact {
+
+		private final String groupId;
+		private final String artifactId;
+		private final String version;
+		private final String scope;
+
+		FakeArtifact(String groupId, String artifactId, String version, String scope) {
+			this.groupId = groupId;
+			this.artifactId = artifactId;
+			this.version = version;
+			this.scope = scope;
+		}
+
+		public String getGroupId() {
+			return this.groupId;
+		}
+
+		public String getArtifactId() {
+			return this.artifactId;
+		}
+
+		public String getVersion() {
+			return this.version;
+		}
+
+		public String getScope() {
+			return this.scope;
+		}
+	}
+
+	private final FakeModel model = new FakeModel(
+			Arrays.asList(new FakeProfile("dev", new FakeActivation(true)), new FakeProfile("ci", null),
+					new FakeProfile(" ", null)),
+			Arrays.asList(new FakeArtifact("junit", "junit", "4.13.2", "test"),
+					new FakeArtifact("org.example", "lib", null, null), new FakeArtifact(null, "broken", "1", null)));
+
+	private final FakeMavenProject mavenProject = new FakeMavenProject(this.model,
+			new FakeArtifact("org.apache.maven.plugins", "maven-jar-plugin", "3.4.1", null),
+			new FakeArtifact("org.example", "example-maven-plugin", null, null));
+
+	@After
+	public void tearDown() {
+		MavenModelAccessor.reset();
+	}
+
+	@Test
+	public void testGetModel() throws Exception {
+		Assert.assertSame(this.model, MavenModelAccessor.getModel(this.mavenProject));
+	}
+
+	@Test
+	public void testGetProfiles() throws Exception {
+		final Profile[] profiles = MavenModelAccessor.getProfiles(this.model);
+		Assert.assertArrayEquals(new Profile[] { new Profile("dev", true), new Profile("ci", false) }, profiles);
+		Assert.assertTrue(profiles[0].isActiveByDefault());
+		Assert.assertFalse(profiles[1].isActiveByDefault());
+	}
+
+	@Test
+	public void testGetDependencies() throws Exception {
+		Assert.assertArrayEquals(
+				new Dependency[] { new Dependency("junit", "junit", "4.13.2", "test"),
+						new Dependency("org.example", "lib", "", null) },
+				MavenModelAccessor.getDependencies(this.model));
+	}
+
+	@Test
+	public void testGetBuildPlugins() throws Exception {
+		Assert.assertArrayEquals(
+				new Plugin[] { new Plugin("org.apache.maven.plugins", "maven-jar-plugin", "3.4.1"),
+						new Plugin("org.example", "example-maven-plugin", "") },
+				MavenModelAccessor.getBuildPlugins(this.mavenProject));
+		Assert.assertTrue(MavenModelAccessor.isAvailable());
+	}
+
+	@Test
+	public void testMissingGetter() throws Exception {
+		final ProjectModelSnapshot fallback = new ProjectModelSnapshot(1, new Profile[0], new Plugin[0],
+				new Dependency[0]);
+		final List<IStatus> warnings = new ArrayList<>();
+		final ILogListener listener = (status, plugin) -> {
+			if (status.getSeverity() == IStatus.WARNING) {
+				warnings.add(status);
+			}
+		};
+		final ILog log = Activator.getDefault().getLog();
+		log.addLogListener(listener);
+		try {
+			Assert.assertSame(fallback, ProjectModelCache.readSnapshot(new IncompatibleMavenProject(this.model), 1,
+					() -> fallback));
+			Assert.assertFalse(MavenModelAccessor.isAvailable());
+
+			// the accessor is skipped from now on, even for compatible projects
+			Assert.assertSame(fallback, ProjectModelCache.readSnapshot(this.mavenProject, 1, () -> fallback));
+			Assert.assertSame(fallback, ProjectModelCache.readSnapshot(new IncompatibleMavenProject(this.model), 1,
+					() -> fallback));
+		} finally {
+			log.removeLogListener(listener);
+		}
+		Assert.assertEquals(1, warnings.size());
+	}
+}
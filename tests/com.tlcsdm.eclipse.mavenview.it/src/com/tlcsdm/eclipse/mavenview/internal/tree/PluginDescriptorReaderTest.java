@@ -0,0 +1,111 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PluginDescriptorReaderTest {
+
+	private static final String DESCRIPTOR = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<plugin>
+				<name>Apache Maven Compiler Plugin</name>
+				<goalPrefix>compiler</goalPrefix>
+				<mojos>
+					<mojo>
+						<goal>compile</goal>
+						<description>Compiles application sources. &lt;p&gt;Uses   javac.&lt;/p&gt;</description>
+						<phase>compile</phase>
+						<parameters>
+							<parameter>
+								<name>goal</name>
+								<description>not a goal</description>
+							</parameter>
+						</parameters>
+					</mojo>
+					<mojo>
+						<goal>help</goal>
+					</mojo>
+				</mojos>
+			</plugin>
+			""";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testReadJar() throws Exception {
+		final Path jar = this.temporaryFolder.getRoot().toPath().resolve("maven-compiler-plugin-3.13.0.jar");
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry("org/apache/maven/plugin/compiler/CompilerMojo.class"));
+			out.write(new byte[16]);
+			out.putNextEntry(new ZipEntry(PluginDescriptorReader.DESCRIPTOR_ENTRY));
+			out.write(DESCRIPTOR.getBytes(StandardCharsets.UTF_8));
+		}
+
+		final PluginDescriptor descriptor = PluginDescriptorReader.read(jar);
+
+		Assert.assertEquals("compiler", descriptor.goalPrefix());
+		Assert.assertEquals(List.of(
+				new PluginDescriptor.Goal("compile", "compile", "Compiles application sources. Uses javac."),
+				new PluginDescriptor.Goal("help", null, null)), descriptor.goals());
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadJarWithoutDescriptor() throws Exception {
+		final Path jar = this.temporaryFolder.getRoot().toPath().resolve("library.jar");
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+		}
+
+		PluginDescriptorReader.read(jar);
+	}
+
+	@Test
+	public void testReadWithoutGoalPrefix() throws Exception {
+		final PluginDescriptor descriptor = PluginDescriptorReader.read(new ByteArrayInputStream(
+				"<plugin><mojos><mojo><goal>run</goal></mojo></mojos></plugin>".getBytes(StandardCharsets.UTF_8)));
+
+		Assert.assertNull(descriptor.goalPrefix());
+		Assert.assertEquals(List.of(new PluginDescriptor.Goal("run", null, null)), descriptor.goals());
+	}
+
+	@Test
+	public void testCacheWriteAndRead() throws Exception {
+		final Path file = this.temporaryFolder.getRoot().toPath().resolve(PluginDescriptorCache.FILE_NAME);
+		final Map<String, PluginDescriptor> descriptors = Map.of(
+				"org.apache.maven.plugins:maven-compiler-plugin:3.13.0",
+				new PluginDescriptor("compiler",
+						List.of(new PluginDescriptor.Goal("compile", "compile", "Compiles application sources."),
+								new PluginDescriptor.Goal("help", null, null))),
+				"org.example:example-maven-plugin:1.0", new PluginDescriptor(null, List.of()));
+
+		PluginDescriptorCache.write(file, descriptors);
+
+		Assert.assertEquals(descriptors, PluginDescriptorCache.read(file));
+	}
+
+	@Test(expected = IOException.class)
+	public void testCacheCorrupt() throws Exception {
+		final Path file = this.temporaryFolder.getRoot().toPath().resolve(PluginDescriptorCache.FILE_NAME);
+		PluginDescriptorCache.write(file, Map.of("org.example:example-maven-plugin:1.0",
+				new PluginDescriptor("example", List.of(new PluginDescriptor.Goal("run", null, null)))));
+
+		final byte[] content = Files.readAllBytes(file);
+		content[content.length / 2] ^= 1;
+		Files.write(file, content);
+
+		PluginDescriptorCache.read(file);
+	}
+}
@@ -0,0 +1,157 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PomSummaryReaderTest {
+
+	private static final String POM = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<project xmlns="http://maven.apache.org/POM/4.0.0">
+				<modelVersion>4.0.0</modelVersion>
+				<groupId>org.example</groupId>
+				<artifactId>example</artifactId>
+				<version>1.0.0</version>
+				<dependencyManagement>
+					<dependencies>
+						<dependency>
+							<groupId>org.example</groupId>
+							<artifactId>managed</artifactId>
+							<version>2.0</version>
+						</dependency>
+					</dependencies>
+				</dependencyManagement>
+				<dependencies>
+					<dependency>
+						<groupId>junit</groupId>
+						<artifactId>junit</artifactId>
+						<version>4.13.2</version>
+						<scope>test</scope>
+					</dependency>
+					<dependency>
+						<groupId>org.example</groupId>
+						<artifactId>no-version</artifactId>
+						<exclusions>
+							<exclusion>
+								<groupId>org.example</groupId>
+								<artifactId>excluded</artifactId>
+							</exclusion>
+						</exclusions>
+					</dependency>
+					<dependency>
+						<groupId></groupId>
+						<artifactId>no-group</artifactId>
+					</dependency>
+				</dependencies>
+				<build>
+					<pluginManagement>
+						<plugins>
+							<plugin>
+								<artifactId>managed-plugin</artifactId>
+							</plugin>
+						</plugins>
+					</pluginManagement>
+					<plugins>
+						<plugin>
+							<artifactId>maven-jar-plugin</artifactId>
+							<version>3.4.1</version>
+							<dependencies>
+								<dependency>
+									<groupId>org.example</groupId>
+									<artifactId>plugin-dependency</artifactId>
+								</dependency>
+							</dependencies>
+						</plugin>
+						<plugin>
+							<groupId>org.example</groupId>
+							<artifactId>example-maven-plugin</artifactId>
+						</plugin>
+					</plugins>
+				</build>
+				<profiles>
+					<profile>
+						<id>dev</id>
+						<activation>
+							<activeByDefault>true</activeByDefault>
+						</activation>
+						<dependencies>
+							<dependency>
+								<groupId>org.example</groupId>
+								<artifactId>profile-dependency</artifactId>
+							</dependency>
+						</dependencies>
+						<build>
+							<plugins>
+								<plugin>
+									<artifactId>profile-plugin</artifactId>
+								</plugin>
+							</plugins>
+						</build>
+					</profile>
+					<profile>
+						<id>ci</id>
+					</profile>
+					<profile>
+						<id> </id>
+					</profile>
+				</profiles>
+			</project>
+			""";
+
+	private static ProjectModelSnapshot read(String pom) throws XMLStreamException {
+		return PomSummaryReader.read(new ByteArrayInputStream(pom.getBytes(StandardCharsets.UTF_8)), 42);
+	}
+
+	@Test
+	public void testProfiles() throws Exception {
+		final Profile[] profiles = read(POM).getProfiles();
+
+		Assert.assertArrayEquals(new Profile[] { new Profile("dev", true), new Profile("ci", false) }, profiles);
+		Assert.assertTrue(profiles[0].isActiveByDefault());
+		Assert.assertFalse(profiles[1].isActiveByDefault());
+	}
+
+	@Test
+	public void testDirectDependenciesOnly() throws Exception {
+		Assert.assertArrayEquals(
+				new Dependency[] { new Dependency("junit", "junit", "4.13.2", "test"),
+						new Dependency("org.example", "no-version", "", null) },
+				read(POM).getDependencies());
+	}
+
+	@Test
+	public void testBuildPluginsOnly() throws Exception {
+		Assert.assertArrayEquals(
+				new Plugin[] { new Plugin("org.apache.maven.plugins", "maven-jar-plugin", "3.4.1"),
+						new Plugin("org.example", "example-maven-plugin", "") },
+				read(POM).getPlugins());
+	}
+
+	@Test
+	public void testModificationStamp() throws Exception {
+		Assert.assertEquals(42, read(POM).getModificationStamp());
+	}
+
+	@Test
+	public void testEmptyProject() throws Exception {
+		final ProjectModelSnapshot snapshot = read("<project/>");
+
+		Assert.assertFalse(snapshot.hasProfiles());
+		Assert.assertFalse(snapshot.hasDependencies());
+		Assert.assertFalse(snapshot.hasPlugins());
+	}
+
+	@Test(expected = XMLStreamException.class)
+	public void testExternalEntitiesAreRejected() throws Exception {
+		read("""
+				<?xml version="1.0"?>
+				<!DOCTYPE project [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+				<project><profiles><profile><id>&xxe;</id></profile></profiles></project>
+				""");
+	}
+}
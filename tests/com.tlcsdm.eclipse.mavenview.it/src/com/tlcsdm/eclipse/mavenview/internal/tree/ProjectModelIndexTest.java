@@ -0,0 +1,108 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ProjectModelIndexTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final ProjectModelIndex.Entry entry = new ProjectModelIndex.Entry("example", "/workspace/example/pom.xml",
+			12345L,
+			new ProjectModelSnapshot(42, new Profile[] { new Profile("dev", true), new Profile("ci", false) },
+					new Plugin[] { new Plugin("org.apache.maven.plugins", "maven-jar-plugin", "3.4.1") },
+					new Dependency[] { new Dependency("junit", "junit", "4.13.2", "test"),
+							new Dependency("org.example", "lib", "", null) }));
+
+	private final ProjectModelIndex.Entry emptyEntry = new ProjectModelIndex.Entry("empty", "/workspace/empty/pom.xml",
+			0L, new ProjectModelSnapshot(7, new Profile[0], new Plugin[0], new Dependency[0]));
+
+	@Test
+	public void testWriteAndRead() throws Exception {
+		final Path file = this.temporaryFolder.getRoot().toPath().resolve(ProjectModelIndex.FILE_NAME);
+		ProjectModelIndex.write(file, Arrays.asList(this.entry, this.emptyEntry));
+
+		final List<ProjectModelIndex.Entry> entries = ProjectModelIndex.read(file);
+
+		Assert.assertEquals(2, entries.size());
+		assertEntryEquals(this.entry, entries.get(0));
+		assertEntryEquals(this.emptyEntry, entries.get(1));
+		Assert.assertTrue(entries.get(0).snapshot().getProfiles()[0].isActiveByDefault());
+	}
+
+	@Test
+	public void testOverwrite() throws Exception {
+		final Path file = this.temporaryFolder.getRoot().toPath().resolve(ProjectModelIndex.FILE_NAME);
+		ProjectModelIndex.write(file, Arrays.asList(this.entry, this.emptyEntry));
+		ProjectModelIndex.write(file, Arrays.asList(this.emptyEntry));
+
+		final List<ProjectModelIndex.Entry> entries = ProjectModelIndex.read(file);
+
+		Assert.assertEquals(1, entries.size());
+		assertEntryEquals(this.emptyEntry, entries.get(0));
+	}
+
+	@Test(expected = IOException.class)
+	public void testCorruptFile() throws Exception {
+		final Path file = this.temporaryFolder.getRoot().toPath().resolve(ProjectModelIndex.FILE_NAME);
+		ProjectModelIndex.write(file, Arrays.asList(this.entry));
+
+		final byte[] content = Files.readAllBytes(file);
+		// flip a bit in the middle of the file
+		content[content.length / 2] ^= 1;
+		Files.write(file, content);
+
+		ProjectModelIndex.read(file);
+	}
+
+	@Test(expected = IOException.class)
+	public void testTruncatedFile() throws Exception {
+		final Path file = this.temporaryFolder.getRoot().toPath().resolve(ProjectModelIndex.FILE_NAME);
+		ProjectModelIndex.write(file, Arrays.asList(this.entry));
+
+		final byte[] content = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(content, content.length - 10));
+
+		ProjectModelIndex.read(file);
+	}
+
+	@Test(expected = IOException.class)
+	public void testOtherFile() throws Exception {
+		final Path file = this.temporaryFolder.getRoot().toPath().resolve(ProjectModelIndex.FILE_NAME);
+		Files.write(file, "<project/>".getBytes(StandardCharsets.UTF_8));
+
+		ProjectModelIndex.read(file);
+	}
+
+	@Test
+	public void testHash() throws Exception {
+		final byte[] pom = "<project/>".getBytes(StandardCharsets.UTF_8);
+		final byte[] otherPom = "<project></project>".getBytes(StandardCharsets.UTF_8);
+
+		Assert.assertEquals(ProjectModelIndex.hash(new ByteArrayInputStream(pom)),
+				ProjectModelIndex.hash(new ByteArrayInputStream(pom)));
+		Assert.assertTrue(ProjectModelIndex.hash(new ByteArrayInputStream(pom)) != ProjectModelIndex
+				.hash(new ByteArrayInputStream(otherPom)));
+	}
+
+	private static void assertEntryEquals(ProjectModelIndex.Entry expected, ProjectModelIndex.Entry actual) {
+		Assert.assertEquals(expected.projectName(), actual.projectName());
+		Assert.assertEquals(expected.pomLocation(), actual.pomLocation());
+		Assert.assertEquals(expected.contentHash(), actual.contentHash());
+		Assert.assertEquals(expected.snapshot().getModificationStamp(), actual.snapshot().getModificationStamp());
+		Assert.assertArrayEquals(expected.snapshot().getProfiles(), actual.snapshot().getProfiles());
+		Assert.assertArrayEquals(expected.snapshot().getPlugins(), actual.snapshot().getPlugins());
+		Assert.assertArrayEquals(expected.snapshot().getDependencies(), actual.snapshot().getDependencies());
+	}
+}
@@ -0,0 +1,136 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ResolvedDependencyTreeTest {
+
+	private static final String PROJECT = "org.example:project:jar:1.0.0";
+
+	@Test
+	public void testBuild() {
+		final List<ResolvedDependencyTree.Artifact> artifacts = List.of(
+				artifact("org.example", "a", "1.0", "compile", PROJECT),
+				artifact("org.example", "b", "2.0", "compile", PROJECT, id("org.example", "a", "1.0")),
+				artifact("org.example", "c", "3.0", "compile", PROJECT, id("org.example", "a", "1.0"),
+						id("org.example", "b", "2.0")),
+				artifact("junit", "junit", "4.13.2", "test", PROJECT));
+
+		final List<ResolvedDependency> roots = ResolvedDependencyTree.build(artifacts,
+				Map.of("org.example:b", "2.0"));
+
+		Assert.assertEquals(2, roots.size());
+		final ResolvedDependency a = roots.get(0);
+		Assert.assertEquals("a", a.artifactId());
+		Assert.assertFalse(a.isManaged());
+		Assert.assertEquals(1, a.children().size());
+
+		final ResolvedDependency b = a.children().get(0);
+		Assert.assertEquals("b", b.artifactId());
+		Assert.assertTrue(b.isManaged());
+		Assert.assertEquals("2.0", b.managedVersion());
+		Assert.assertEquals("c", b.children().get(0).artifactId());
+		Assert.assertTrue(b.children().get(0).children().isEmpty());
+
+		Assert.assertEquals("junit", roots.get(1).artifactId());
+		Assert.assertEquals("test", roots.get(1).scope());
+	}
+
+	@Test
+	public void testUnknownParent() {
+		// e.g. the parent was filtered by its scope
+		final List<ResolvedDependency> roots = ResolvedDependencyTree.build(
+				List.of(artifact("org.example", "b", "2.0", "compile", PROJECT, id("org.example", "a", "1.0"))),
+				Map.of());
+
+		Assert.assertEquals(1, roots.size());
+		Assert.assertEquals("b", roots.get(0).artifactId());
+	}
+
+	@Test
+	public void testEmpty() {
+		Assert.assertTrue(ResolvedDependencyTree.build(List.of(), Map.of()).isEmpty());
+	}
+
+	@Test
+	public void testPages() {
+		final List<ResolvedDependencyTree.Artifact> artifacts = new ArrayList<>();
+		for (int i = 0; i < 250; i++) {
+			artifacts.add(artifact("org.example", "lib" + i, "1.0", "compile", PROJECT));
+		}
+		final List<ResolvedDependency> roots = ResolvedDependencyTree.build(artifacts, Map.of());
+
+		final Object[] pages = ResolvedDependencyNode.createChildren("parent", roots);
+
+		Assert.assertEquals(3, pages.length);
+		Assert.assertEquals(DependencyPageNode.PAGE_SIZE, ((DependencyPageNode) pages[0]).getChildren().length);
+		Assert.assertEquals(50, ((DependencyPageNode) pages[2]).getChildren().length);
+		final ResolvedDependencyNode last = (ResolvedDependencyNode) ((DependencyPageNode) pages[2]).getChildren()[49];
+		Assert.assertEquals("lib249", last.getDependency().artifactId());
+		Assert.assertEquals(pages[2], last.getParent());
+	}
+
+	@Test
+	public void testBuildFromGraph() {
+		// a -> b:1.0 -> c, d -> b:2.0 -> c, e -> c; b:2.0 is resolved although b:1.0 comes first
+		final List<ResolvedDependencyTree.Node> graph = List.of(
+				node("a", "1.0", node("b", "1.0", node("c", "1.0"))),
+				node("d", "1.0", node("b", "2.0", node("c", "1.0"))),
+				node("e", "1.0", node("c", "1.0")));
+
+		final List<ResolvedDependency> roots = ResolvedDependencyTree.build(graph,
+				Map.of("org.example:a", "1.0", "org.example:b", "2.0", "org.example:c", "1.0",
+						"org.example:d", "1.0", "org.example:e", "1.0"),
+				Map.of("org.example:b", "2.0"));
+
+		Assert.assertEquals(3, roots.size());
+		final ResolvedDependency b1 = roots.get(0).children().get(0);
+		Assert.assertEquals("1.0", b1.version());
+		Assert.assertTrue(b1.isOmitted());
+		Assert.assertEquals("2.0", b1.conflictVersion());
+		Assert.assertTrue(b1.children().isEmpty());
+
+		final ResolvedDependency b2 = roots.get(1).children().get(0);
+		Assert.assertFalse(b2.isOmitted());
+		Assert.assertEquals("c", b2.children().get(0).artifactId());
+
+		// the same version is resolved nearer to the project through e
+		final ResolvedDependency c = b2.children().get(0);
+		Assert.assertTrue(c.isOmitted());
+		Assert.assertEquals(c.version(), c.conflictVersion());
+		Assert.assertFalse(roots.get(2).children().get(0).isOmitted());
+	}
+
+	@Test
+	public void testOmittedDetails() {
+		final ResolvedDependency conflict = new ResolvedDependency("org.example", "b", "1.0", "compile", "2.0", "2.0",
+				List.of());
+		final ResolvedDependency duplicate = new ResolvedDependency("org.example", "c", "1.0", null, null, "1.0",
+				List.of());
+
+		Assert.assertEquals(" (compile, managed, omitted for conflict with 2.0)",
+				new ResolvedDependencyNode("parent", conflict).getDetails());
+		Assert.assertEquals(" (omitted for duplicate)", new ResolvedDependencyNode("parent", duplicate).getDetails());
+	}
+
+	private static ResolvedDependencyTree.Node node(String artifactId, String version,
+			ResolvedDependencyTree.Node... children) {
+		return new ResolvedDependencyTree.Node("org.example", artifactId, version, "compile", List.of(children));
+	}
+
+	private static ResolvedDependencyTree.Artifact artifact(String groupId, String artifactId, String version,
+			String scope, String... parents) {
+		final String id = id(groupId, artifactId, version);
+		final List<String> trail = new ArrayList<>(List.of(parents));
+		trail.add(id);
+		return new ResolvedDependencyTree.Artifact(id, groupId, artifactId, version, scope, trail);
+	}
+
+	private static String id(String groupId, String artifactId, String version) {
+		return groupId + ":" + artifactId + ":jar:" + version;
+	}
+}
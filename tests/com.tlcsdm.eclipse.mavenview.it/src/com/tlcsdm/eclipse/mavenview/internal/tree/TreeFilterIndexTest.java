@@ -0,0 +1,90 @@
+package com.tlcsdm.eclipse.mavenview.internal.tree;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tlcsdm.eclipse.mavenview.internal.tree.TreeFilterIndex.Kind;
+import com.tlcsdm.eclipse.mavenview.internal.tree.TreeFilterIndex.ProjectMatch;
+
+public class TreeFilterIndexTest {
+
+	private static final List<String> PROJECTS = Arrays.asList("core", "web", "unknown");
+
+	private final TreeFilterIndex index = new TreeFilterIndex(plugin -> new String[] { "compile", "testCompile" });
+
+	@Before
+	public void setUp() {
+		this.index.update("core",
+				new ProjectModelSnapshot(1, new Profile[] { new Profile("release", false) },
+						new Plugin[] { new Plugin("org.apache.maven.plugins", "maven-compiler-plugin", "3.13.0") },
+						new Dependency[] { new Dependency("junit", "junit", "4.13.2", "test") }));
+		this.index.update("web", new ProjectModelSnapshot(2, new Profile[0], new Plugin[0],
+				new Dependency[] { new Dependency("org.example", "core", "1.0", null) }));
+		// the model of this project was not read yet
+		this.index.update("unknown", null);
+	}
+
+	@Test
+	public void testEmptyQuery() {
+		Assert.assertTrue(this.index.match("", PROJECTS).isEmpty());
+	}
+
+	@Test
+	public void testProjectName() {
+		final Map<String, ProjectMatch> matches = this.index.match("core", PROJECTS);
+
+		Assert.assertEquals(Arrays.asList("core", "web"), List.copyOf(matches.keySet()));
+		Assert.assertTrue(matches.get("core").isNameMatch());
+		// by the coordinates of its dependency
+		Assert.assertFalse(matches.get("web").isNameMatch());
+		Assert.assertTrue(matches.get("web").contains(Kind.DEPENDENCY, "org.example:core"));
+	}
+
+	@Test
+	public void testProfile() {
+		final Map<String, ProjectMatch> matches = this.index.match("relea", PROJECTS);
+
+		Assert.assertEquals(1, matches.size());
+		Assert.assertTrue(matches.get("core").contains(Kind.PROFILE, "release"));
+		Assert.assertFalse(matches.get("core").has(Kind.DEPENDENCY));
+	}
+
+	@Test
+	public void testGoal() {
+		final Map<String, ProjectMatch> matches = this.index.match("compiler:test", PROJECTS);
+
+		final ProjectMatch match = matches.get("core");
+		Assert.assertTrue(match.contains(Kind.PLUGIN, "org.apache.maven.plugins:maven-compiler-plugin"));
+		Assert.assertTrue(match.contains(Kind.GOAL, "org.apache.maven.plugins:maven-compiler-plugin:testCompile"));
+		Assert.assertFalse(match.contains(Kind.GOAL, "org.apache.maven.plugins:maven-compiler-plugin:compile"));
+	}
+
+	@Test
+	public void testCaseInsensitive() {
+		final String query = TreeFilterIndex.normalize("  JUnit:4 ");
+
+		final Map<String, ProjectMatch> matches = this.index.match(query, PROJECTS);
+
+		Assert.assertEquals(1, matches.size());
+		Assert.assertTrue(matches.get("core").contains(Kind.DEPENDENCY, "junit:junit"));
+	}
+
+	@Test
+	public void testUpdateAndRetain() {
+		final ProjectModelSnapshot snapshot = new ProjectModelSnapshot(3,
+				new Profile[] { new Profile("release", true) }, new Plugin[0], new Dependency[0]);
+		// the filter searches the projects whose entry changed again when narrowing
+		Assert.assertTrue(this.index.update("unknown", snapshot));
+		Assert.assertFalse(this.index.update("unknown", snapshot));
+		Assert.assertEquals(2, this.index.match("release", PROJECTS).size());
+
+		this.index.retain(Set.of("unknown"));
+		Assert.assertEquals(List.of("unknown"), List.copyOf(this.index.match("release", PROJECTS).keySet()));
+	}
+}